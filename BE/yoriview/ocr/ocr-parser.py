@@ -47,6 +47,7 @@ PROJECT_ROOT = Path(os.getcwd())
 
 # OCR 디렉토리 경로 설정 (Java에서 설정한 작업 디렉토리가 이미 /app/ocr)
 OCR_DIR = PROJECT_ROOT  # 작업 디렉토리 자체가 OCR 디렉토리
+OCR_TEXT_FILE_NAME = 'ocr_text.txt'  # --parse-text 모드의 입력 (Java 가 input/ 에 기록)
 
 # --- .env 파일에서 환경 변수 불러오기 ---
 env_path = SCRIPT_DIR / '.env'
@@ -57,20 +58,31 @@ secret_key = os.getenv('CLOVA_OCR_SECRET_KEY')
 api_url = os.getenv('CLOVA_OCR_APIGW_INVOKE_URL')
 GOOGLE_API_KEY = os.getenv('GOOGLE_API_KEY')
 
+# 단계별 외부 API 타임아웃(초). 장애 시 전체 프로세스 타임아웃까지 기다리지 않고 빨리 실패하도록 함
+CLOVA_CONNECT_TIMEOUT_SECONDS = 3
+CLOVA_TIMEOUT_SECONDS = float(os.getenv('OCR_CLOVA_TIMEOUT_SECONDS', '8'))
+GEMINI_TIMEOUT_SECONDS = float(os.getenv('OCR_GEMINI_TIMEOUT_SECONDS', '12'))
+
 # 환경 변수 확인
 if not all([secret_key, api_url, GOOGLE_API_KEY]):
     sys.exit(1)
 
 # Google Gemini API 설정
-genai.configure(api_key=GOOGLE_API_KEY)
+# GEMINI_API_ENDPOINT 를 지정하면 해당 주소(예: 로컬 스텁 서버)로 REST 호출
+GEMINI_API_ENDPOINT = os.getenv('GEMINI_API_ENDPOINT')
+if GEMINI_API_ENDPOINT:
+    genai.configure(api_key=GOOGLE_API_KEY, transport='rest',
+                    client_options={"api_endpoint": GEMINI_API_ENDPOINT})
+else:
+    genai.configure(api_key=GOOGLE_API_KEY)
 
 
-def find_receipt_image():
+def find_receipt_image(base_dir=OCR_DIR):
     """
     'input' 폴더에서 'receipt'라는 이름의 이미지 파일을 찾아,
     파일 경로와 확장자를 함께 반환합니다.
     """
-    input_dir = OCR_DIR / 'input'
+    input_dir = Path(base_dir) / 'input'
     if not input_dir.exists():
         input_dir.mkdir(parents=True, exist_ok=True)
 
@@ -87,9 +99,9 @@ def find_receipt_image():
     return image_path, file_format
 
 
-def save_result_to_file(parsed_data, input_filename):
+def save_result_to_file(parsed_data, input_filename, base_dir=OCR_DIR):
     """파싱된 결과를 'output' 폴더에 JSON 파일로 저장합니다."""
-    output_dir = OCR_DIR / 'output'
+    output_dir = Path(base_dir) / 'output'
     if not output_dir.exists():
         output_dir.mkdir(parents=True, exist_ok=True)
 
@@ -233,54 +245,50 @@ def parse_receipt_with_ai(ocr_text: str) -> dict:
     [출력 JSON]
     """
     try:
-        response = model.generate_content(prompt)
+        response = model.generate_content(prompt, request_options={"timeout": GEMINI_TIMEOUT_SECONDS})
         json_text = response.text.strip()
         match = re.search(r'\{[\s\S]*\}', json_text)
         if match: json_text = match.group(0)
         return json.loads(json_text)
     except Exception as e:
-        return {"storeName": None, "address": None, "menuItems": [], "totalPrice": None}
+        # 빈 결과로 대신하되 Java 쪽 서킷 브레이커가 실패로 집계하도록 failedStage 를 함께 전달
+        return {"storeName": None, "address": None, "menuItems": [], "totalPrice": None, "failedStage": "gemini"}
 
 
-def parse_receipt(ocr_result):
-    """OCR 결과를 파싱하여 필요한 정보를 추출합니다."""
+def extract_text(ocr_result):
+    """CLOVA OCR 결과의 images[].fields[].inferText 를 줄 단위로 연결합니다."""
+    if not isinstance(ocr_result, dict):
+        return ""
+    lines = []
+    for image in ocr_result.get('images', []):
+        for field in image.get('fields', []):
+            text = field.get('inferText', '').strip()
+            if text:  # 빈 문자열이 아닌 경우만 추가
+                lines.append(text)
+    return "\n".join(lines)
+
+
+def parse_text(full_text):
+    """OCR 텍스트를 AI로 파싱합니다. 텍스트가 없거나 실패하면 빈 결과를 반환합니다."""
     try:
-        # OCR 결과 검증
-        if not isinstance(ocr_result, dict):
+        if not full_text:
             return {"storeName": None, "address": None, "menuItems": [], "totalPrice": None}
-            
-        images = ocr_result.get('images', [])
-        if not images:
-            return {"storeName": None, "address": None, "menuItems": [], "totalPrice": None}
-            
-        # OCR 텍스트 추출
-        lines = []
-        for image in images:
-            fields = image.get('fields', [])
-            for field in fields:
-                text = field.get('inferText', '').strip()
-                if text:  # 빈 문자열이 아닌 경우만 추가
-                    lines.append(text)
-                    
-        if not lines:
-            return {"storeName": None, "address": None, "menuItems": [], "totalPrice": None}
-            
-        # 전체 텍스트 구성
-        full_text = "\n".join(lines)
-        
-        # AI로 파싱
         return parse_receipt_with_ai(full_text)
-        
     except Exception as e:
-        return {"storeName": None, "address": None, "menuItems": [], "totalPrice": None}
+        return {"storeName": None, "address": None, "menuItems": [], "totalPrice": None, "failedStage": "gemini"}
 
-# --- 메인 실행 로직 ---
-if __name__ == "__main__":
-    # 파일 경로와 포맷을 함께 받아옴
-    image_file_path, image_format = find_receipt_image()
-    if not image_file_path:
-        sys.exit(1)
 
+def parse_receipt(ocr_result):
+    """OCR 결과를 파싱하여 필요한 정보를 추출합니다."""
+    return parse_text(extract_text(ocr_result))
+
+class OcrError(Exception):
+    """OCR 처리 실패 (레거시 모드에서는 exit code 1, 워커 모드에서는 오류 응답으로 변환)"""
+    pass
+
+
+def call_clova_ocr(image_file_path, image_format):
+    """CLOVA OCR API를 호출하여 원본 OCR 결과를 반환합니다."""
     # JFIF를 JPG로 변환
     if image_format.lower() == 'jfif':
         image_format = 'jpeg'
@@ -314,16 +322,132 @@ if __name__ == "__main__":
         response = requests.post(
             api_url,
             headers=headers,
-            json=request_json
+            json=request_json,
+            timeout=(CLOVA_CONNECT_TIMEOUT_SECONDS, CLOVA_TIMEOUT_SECONDS)
         )
-        
-        if response.status_code != 200:
-            sys.exit(1)
-            
     except Exception as e:
-        sys.exit(1)
+        raise OcrError(f"CLOVA OCR 요청 실패: {e}")
 
-    result = response.json()
-    parsed_result = parse_receipt(result)
+    if response.status_code != 200:
+        raise OcrError(f"CLOVA OCR 응답 오류: {response.status_code}")
 
-    save_result_to_file(parsed_result, image_file_path)
\ No newline at end of file
+    return response.json()
+
+
+def elapsed_ms(started):
+    return int((time.perf_counter() - started) * 1000)
+
+
+def process_workspace(base_dir=OCR_DIR, save_result=True, timings=None, parse=True):
+    """
+    작업 디렉토리의 input/receipt.* 를 OCR + AI 파싱하여 결과를 반환합니다.
+    parse=False 이면 AI 파싱 없이 OCR 텍스트만 {"ocrText": "..."} 로 반환합니다. (Java 규칙 파서가 먼저 시도)
+    timings 딕셔너리를 넘기면 단계별 처리 시간(ms)을 기록합니다.
+    """
+    if timings is None:
+        timings = {}
+
+    # 파일 경로와 포맷을 함께 받아옴
+    started = time.perf_counter()
+    image_file_path, image_format = find_receipt_image(base_dir)
+    timings['python.find_image'] = elapsed_ms(started)
+    if not image_file_path:
+        raise OcrError("영수증 이미지를 찾을 수 없습니다")
+
+    started = time.perf_counter()
+    result = call_clova_ocr(image_file_path, image_format)
+    timings['clova'] = elapsed_ms(started)
+
+    if parse:
+        started = time.perf_counter()
+        parsed_result = parse_receipt(result)
+        timings['gemini'] = elapsed_ms(started)
+    else:
+        parsed_result = {"ocrText": extract_text(result)}
+
+    if save_result:
+        # 프로세스 실행 모드에서는 결과 파일로만 전달할 수 있으므로 단계별 시간도 함께 저장
+        save_result_to_file(dict(parsed_result, timings=timings), image_file_path, base_dir)
+    return parsed_result
+
+
+def parse_text_file(base_dir=OCR_DIR):
+    """input/ocr_text.txt 의 OCR 텍스트를 AI로 파싱해 결과 파일에 저장합니다. (프로세스 실행 모드)"""
+    text_file = Path(base_dir) / 'input' / OCR_TEXT_FILE_NAME
+    if not text_file.exists():
+        raise OcrError("OCR 텍스트 파일을 찾을 수 없습니다")
+    started = time.perf_counter()
+    parsed_result = parse_text(text_file.read_text(encoding='utf-8'))
+    timings = {'gemini': elapsed_ms(started)}
+    save_result_to_file(dict(parsed_result, timings=timings), str(text_file), base_dir)
+    return parsed_result
+
+
+# --- 워커 모드 ---
+# Java의 PythonWorkerPool이 프로세스를 미리 띄워 두고 재사용합니다.
+# 요청/응답은 한 줄에 JSON 하나(개행 구분 프레임)로 stdin/stdout을 통해 주고받습니다.
+#   요청: {"id": "...", "op": "ping"} / {"id": "...", "op": "process", "workspace": "/app/ocr/jobs/<jobId>"}
+#         {"id": "...", "op": "ocr", "workspace": "..."} (OCR 텍스트만) / {"id": "...", "op": "parse", "text": "..."} (AI 파싱만)
+#   응답: {"id": "...", "ok": true, "result": {...}, "timings": {"clova": 812, ...}} / {"id": "...", "ok": false, "error": "..."}
+def handle_request(request):
+    op = request.get('op')
+    if op == 'ping':
+        return {"ok": True, "pid": os.getpid()}
+    if op in ('process', 'ocr'):
+        workspace = request.get('workspace')
+        if not workspace:
+            return {"ok": False, "error": "workspace가 지정되지 않았습니다"}
+        timings = {}
+        result = process_workspace(workspace, save_result=False, timings=timings, parse=(op == 'process'))
+        return {"ok": True, "result": result, "timings": timings}
+    if op == 'parse':
+        started = time.perf_counter()
+        result = parse_text(request.get('text', ''))
+        return {"ok": True, "result": result, "timings": {"gemini": elapsed_ms(started)}}
+    return {"ok": False, "error": f"알 수 없는 요청: {op}"}
+
+
+def run_worker():
+    # 라이브러리 출력이 응답 채널을 오염시키지 않도록 stdout은 stderr로 돌리고
+    # 원래 stdout은 프레임 전송에만 사용
+    protocol_out = sys.stdout
+    sys.stdout = sys.stderr
+
+    while True:
+        line = sys.stdin.readline()
+        if not line:
+            break  # stdin이 닫히면 종료
+        line = line.strip()
+        if not line:
+            continue
+
+        request_id = None
+        try:
+            request = json.loads(line)
+            request_id = request.get('id')
+            response = handle_request(request)
+        except OcrError as e:
+            response = {"ok": False, "error": str(e)}
+        except Exception as e:
+            response = {"ok": False, "error": f"워커 처리 예외: {e}"}
+
+        response['id'] = request_id
+        protocol_out.write(json.dumps(response, ensure_ascii=True) + "\n")
+        protocol_out.flush()
+
+
+# --- 메인 실행 로직 ---
+if __name__ == "__main__":
+    if '--worker' in sys.argv:
+        run_worker()
+        sys.exit(0)
+
+    try:
+        if '--ocr-only' in sys.argv:
+            process_workspace(OCR_DIR, parse=False)
+        elif '--parse-text' in sys.argv:
+            parse_text_file(OCR_DIR)
+        else:
+            process_workspace(OCR_DIR)
+    except OcrError as e:
+        sys.exit(1)
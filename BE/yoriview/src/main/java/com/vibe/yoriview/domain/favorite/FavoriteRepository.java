@@ -1,6 +1,8 @@
 package com.vibe.yoriview.domain.favorite;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -8,4 +10,25 @@ public interface FavoriteRepository extends JpaRepository<Favorite, String> {
     boolean existsByUserIdAndRestaurantId(String userId, String restaurantId);
     void deleteByUserIdAndRestaurantId(String userId, String restaurantId);
     List<Favorite> findByUserId(String userId);
+
+    // 즐겨찾기마다 음식점/리뷰를 따로 조회하지 않도록 사용자 리뷰를 음식점별로 먼저 집계한 뒤 한 번에 조인
+    @Query(value = """
+            select f.favorite_id as favoriteId, f.restaurant_id as restaurantId,
+                   r.name as restaurantName, r.address as restaurantAddress, r.category as restaurantCategory,
+                   coalesce(s.avg_rating, 0) as rating,
+                   coalesce(s.review_count, 0) as visitCount,
+                   coalesce(date_format(s.last_review_at, '%Y-%m-%d'), '') as lastVisit,
+                   date_format(f.created_at, '%Y-%m-%d') as createdAt
+            from favorite f
+            join restaurant r on r.restaurant_id = f.restaurant_id
+            left join (
+                select restaurant_id, avg(rating) as avg_rating, count(*) as review_count,
+                       max(created_at) as last_review_at
+                from review
+                where user_id = :userId
+                group by restaurant_id
+            ) s on s.restaurant_id = f.restaurant_id
+            where f.user_id = :userId
+            """, nativeQuery = true)
+    List<FavoriteRestaurantView> findFavoriteRestaurants(@Param("userId") String userId);
 }
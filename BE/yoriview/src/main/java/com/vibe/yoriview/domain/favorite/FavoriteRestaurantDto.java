@@ -17,4 +17,18 @@ public class FavoriteRestaurantDto {
     private Integer visitCount;
     private String lastVisit;
     private String createdAt;
-} 
\ No newline at end of file
+
+    public static FavoriteRestaurantDto from(FavoriteRestaurantView view) {
+        return FavoriteRestaurantDto.builder()
+                .favoriteId(view.getFavoriteId())
+                .restaurantId(view.getRestaurantId())
+                .restaurantName(view.getRestaurantName())
+                .restaurantAddress(view.getRestaurantAddress())
+                .restaurantCategory(view.getRestaurantCategory())
+                .rating(view.getRating())
+                .visitCount(view.getVisitCount().intValue())
+                .lastVisit(view.getLastVisit())
+                .createdAt(view.getCreatedAt())
+                .build();
+    }
+}
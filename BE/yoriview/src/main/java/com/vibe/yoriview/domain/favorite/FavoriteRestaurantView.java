@@ -0,0 +1,16 @@
+package com.vibe.yoriview.domain.favorite;
+
+/**
+ * 즐겨찾기 상세 조회용 프로젝션 (favorite + restaurant + 음식점별 리뷰 집계를 한 번에 조인한 결과).
+ */
+public interface FavoriteRestaurantView {
+    String getFavoriteId();
+    String getRestaurantId();
+    String getRestaurantName();
+    String getRestaurantAddress();
+    String getRestaurantCategory();
+    Double getRating();
+    Long getVisitCount();
+    String getLastVisit();
+    String getCreatedAt();
+}
@@ -0,0 +1,107 @@
+package com.vibe.yoriview.domain.ocr;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JPEG 의 EXIF Orientation 태그(0x0112) 를 읽습니다.
+ * 휴대폰 사진은 픽셀은 가로로 두고 회전 정보만 EXIF 에 기록하는 경우가 많아,
+ * 이 값을 반영하지 않으면 OCR 에 옆으로 누운 영수증이 전달됩니다.
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    // APP1 은 보통 파일 앞부분에 있으므로 앞 64KB 만 확인
+    private static final int MAX_HEADER_BYTES = 64 * 1024;
+    private static final int TAG_ORIENTATION = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * 1~8 의 EXIF 방향 값을 반환합니다. JPEG 가 아니거나 태그가 없으면 1(정방향) 입니다.
+     */
+    static int read(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            return parse(in.readNBytes(MAX_HEADER_BYTES));
+        } catch (IOException e) {
+            return NORMAL;
+        }
+    }
+
+    static int parse(byte[] data) {
+        if (data.length < 4 || u8(data, 0) != 0xFF || u8(data, 1) != 0xD8) {
+            return NORMAL;
+        }
+        int offset = 2;
+        while (offset + 4 <= data.length && u8(data, offset) == 0xFF) {
+            int marker = u8(data, offset + 1);
+            int length = (u8(data, offset + 2) << 8) | u8(data, offset + 3);
+            if (marker == 0xDA || length < 2) {
+                break; // 이미지 데이터 시작(SOS) 이후에는 메타데이터가 없음
+            }
+            int segment = offset + 4;
+            if (marker == 0xE1 && segment + 6 <= data.length
+                    && data[segment] == 'E' && data[segment + 1] == 'x' && data[segment + 2] == 'i'
+                    && data[segment + 3] == 'f' && data[segment + 4] == 0 && data[segment + 5] == 0) {
+                int orientation = readTiffOrientation(data, segment + 6, Math.min(data.length, offset + 2 + length));
+                if (orientation != 0) {
+                    return orientation;
+                }
+            }
+            offset += 2 + length;
+        }
+        return NORMAL;
+    }
+
+    // TIFF 헤더(II/MM) 뒤 첫 번째 IFD 에서 Orientation 항목을 찾음. 없으면 0
+    private static int readTiffOrientation(byte[] data, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return 0;
+        }
+        boolean littleEndian;
+        if (data[tiff] == 'I' && data[tiff + 1] == 'I') {
+            littleEndian = true;
+        } else if (data[tiff] == 'M' && data[tiff + 1] == 'M') {
+            littleEndian = false;
+        } else {
+            return 0;
+        }
+
+        int ifd = tiff + (int) u32(data, tiff + 4, littleEndian);
+        if (ifd < tiff || ifd + 2 > end) {
+            return 0;
+        }
+        int entries = u16(data, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return 0;
+            }
+            if (u16(data, entry, littleEndian) == TAG_ORIENTATION) {
+                int value = u16(data, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : 0;
+            }
+        }
+        return 0;
+    }
+
+    private static int u8(byte[] data, int offset) {
+        return data[offset] & 0xFF;
+    }
+
+    private static int u16(byte[] data, int offset, boolean littleEndian) {
+        return littleEndian
+                ? u8(data, offset) | (u8(data, offset + 1) << 8)
+                : (u8(data, offset) << 8) | u8(data, offset + 1);
+    }
+
+    private static long u32(byte[] data, int offset, boolean littleEndian) {
+        return littleEndian
+                ? (u16(data, offset, true) & 0xFFFFL) | ((long) u16(data, offset + 2, true) << 16)
+                : ((long) u16(data, offset, false) << 16) | (u16(data, offset + 2, false) & 0xFFFFL);
+    }
+}
@@ -0,0 +1,206 @@
+package com.vibe.yoriview.domain.ocr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Python 인터프리터 없이 CLOVA OCR 과 Gemini API 를 직접 호출하는 OCR 엔진.
+ * 하나의 HttpClient 를 공유하므로 요청 간 커넥션이 재사용됩니다.
+ */
+@Slf4j
+@Component
+public class HttpOcrEngine implements OcrEngine {
+
+    private static final String PROMPT_RESOURCE = "ocr/receipt-parse-prompt.txt";
+    private static final Pattern JSON_OBJECT = Pattern.compile("\\{[\\s\\S]*\\}");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${ocr.clova.url:}")
+    private String clovaUrl;
+
+    @Value("${ocr.clova.secret-key:}")
+    private String clovaSecretKey;
+
+    @Value("${ocr.gemini.base-url:https://generativelanguage.googleapis.com}")
+    private String geminiBaseUrl;
+
+    @Value("${ocr.gemini.model:gemini-2.5-flash}")
+    private String geminiModel;
+
+    @Value("${ocr.gemini.api-key:}")
+    private String geminiApiKey;
+
+    @Value("${ocr.http.connect-timeout-seconds:5}")
+    private long connectTimeoutSeconds;
+
+    // 단계별 응답 타임아웃 (장애 시 전체 작업 타임아웃보다 훨씬 빨리 실패)
+    @Value("${ocr.clova.timeout-seconds:8}")
+    private long clovaTimeoutSeconds;
+
+    @Value("${ocr.gemini.timeout-seconds:12}")
+    private long geminiTimeoutSeconds;
+
+    private HttpClient httpClient;
+    private String promptTemplate;
+
+    @PostConstruct
+    void init() throws IOException {
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(connectTimeoutSeconds))
+                .build();
+        try (InputStream in = new ClassPathResource(PROMPT_RESOURCE).getInputStream()) {
+            promptTemplate = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "http";
+    }
+
+    @Override
+    public OcrEngineResult recognizeText(OcrWorkspace workspace) {
+        if (clovaUrl.isBlank() || clovaSecretKey.isBlank()) {
+            throw new OcrProcessingException("OCR 처리 실패", "CLOVA OCR 설정이 없습니다");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        String ocrText = callClovaOcr(workspace);
+        long clovaMillis = System.currentTimeMillis() - startedAt;
+        log.info("CLOVA OCR 완료: jobId={}, lines={}", workspace.getJobId(), ocrText.lines().count());
+
+        return new OcrEngineResult(null, ocrText, Map.of("clova", clovaMillis));
+    }
+
+    @Override
+    public OcrEngineResult parseText(OcrWorkspace workspace, String ocrText) {
+        long startedAt = System.currentTimeMillis();
+        Map<String, Object> parsed = ocrText.isEmpty() ? emptyResult() : parseWithAi(workspace, ocrText);
+        Map<String, Long> timings = Map.of("gemini", System.currentTimeMillis() - startedAt);
+        if (parsed == null) {
+            return new OcrEngineResult(emptyResult(), ocrText, timings, "gemini");
+        }
+        return new OcrEngineResult(parsed, ocrText, timings);
+    }
+
+    private String callClovaOcr(OcrWorkspace workspace) {
+        // JFIF를 JPG로 변환
+        String format = workspace.getImageFormat();
+        if (format.equals("jfif")) {
+            format = "jpeg";
+        }
+
+        try {
+            Map<String, Object> image = new LinkedHashMap<>();
+            image.put("format", format);
+            image.put("name", "receipt");
+            image.put("data", Base64.getEncoder().encodeToString(Files.readAllBytes(workspace.getImageFile())));
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("images", List.of(image));
+            body.put("requestId", UUID.randomUUID().toString());
+            body.put("version", "V2");
+            body.put("timestamp", System.currentTimeMillis());
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create(clovaUrl))
+                    .timeout(Duration.ofSeconds(clovaTimeoutSeconds))
+                    .header("X-OCR-SECRET", clovaSecretKey)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new OcrProcessingException("OCR 처리 실패", "CLOVA OCR 응답 오류: " + response.statusCode());
+            }
+            return extractText(objectMapper.readTree(response.body()));
+        } catch (IOException e) {
+            throw new OcrProcessingException("OCR 처리 실패", "CLOVA OCR 요청 실패: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OcrProcessingException("OCR 처리 실패", "CLOVA OCR 요청이 중단되었습니다");
+        }
+    }
+
+    // images[].fields[].inferText 를 줄 단위로 연결
+    private String extractText(JsonNode ocrResult) {
+        List<String> lines = new ArrayList<>();
+        for (JsonNode image : ocrResult.path("images")) {
+            for (JsonNode field : image.path("fields")) {
+                String text = field.path("inferText").asText("").strip();
+                if (!text.isEmpty()) {
+                    lines.add(text);
+                }
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    // AI 파싱 실패는 OCR 실패로 보지 않고 빈 결과로 대신함 (ocr-parser.py 와 동일). 실패하면 null
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> parseWithAi(OcrWorkspace workspace, String ocrText) {
+        try {
+            Map<String, Object> part = Map.of("text", promptTemplate.replace("{ocr_text}", ocrText));
+            Map<String, Object> body = Map.of("contents", List.of(Map.of("parts", List.of(part))));
+
+            HttpRequest request = HttpRequest.newBuilder(
+                            URI.create(geminiBaseUrl + "/v1beta/models/" + geminiModel + ":generateContent"))
+                    .timeout(Duration.ofSeconds(geminiTimeoutSeconds))
+                    .header("x-goog-api-key", geminiApiKey)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                log.warn("Gemini 응답 오류: jobId={}, status={}", workspace.getJobId(), response.statusCode());
+                return null;
+            }
+
+            String text = objectMapper.readTree(response.body())
+                    .path("candidates").path(0).path("content").path("parts").path(0).path("text").asText("");
+            Matcher matcher = JSON_OBJECT.matcher(text);
+            return objectMapper.readValue(matcher.find() ? matcher.group() : text.strip(), Map.class);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            log.warn("Gemini 파싱 실패: jobId={}, {}", workspace.getJobId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<String, Object> emptyResult() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("storeName", null);
+        result.put("address", null);
+        result.put("menuItems", new ArrayList<>());
+        result.put("totalPrice", null);
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+package com.vibe.yoriview.domain.ocr;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 지수 구간(약 10% 간격) 지연 시간 히스토그램.
+ * 기록은 잠금 없이 구간 카운터만 올리고, 백분위는 조회 시 누적 분포에서 계산합니다.
+ * 백분위 값은 해당 구간의 상한이므로 실제 값보다 최대 10% 크게 보고될 수 있습니다.
+ */
+class LatencyHistogram {
+
+    private static final double GROWTH = 1.1;
+    private static final long MAX_TRACKABLE_MILLIS = 10 * 60 * 1000L;
+    private static final long[] BOUNDS = buildBounds();
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS.length + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long millis) {
+        long value = Math.max(0, millis);
+        buckets.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    long getCount() {
+        return count.get();
+    }
+
+    // 0 < quantile <= 1
+    long percentile(double quantile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                // 마지막(범위 초과) 구간과 최댓값보다 큰 상한은 최댓값으로 보고
+                return i < BOUNDS.length ? Math.min(BOUNDS[i], max.get()) : max.get();
+            }
+        }
+        return max.get();
+    }
+
+    Map<String, Object> snapshot() {
+        long total = count.get();
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("count", total);
+        snapshot.put("meanMillis", total == 0 ? 0 : sum.get() / total);
+        snapshot.put("p50Millis", percentile(0.50));
+        snapshot.put("p95Millis", percentile(0.95));
+        snapshot.put("p99Millis", percentile(0.99));
+        snapshot.put("maxMillis", max.get());
+        return snapshot;
+    }
+
+    private static int bucketOf(long millis) {
+        int low = 0;
+        int high = BOUNDS.length;
+        // BOUNDS[i] 이상인 첫 구간 (이진 탐색)
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (BOUNDS[mid] < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 0, 1, 2, 3, ... 처럼 작은 값은 1ms 단위, 이후 10% 씩 커지는 상한 목록
+    private static long[] buildBounds() {
+        long[] bounds = new long[256];
+        int size = 0;
+        long bound = 0;
+        while (bound < MAX_TRACKABLE_MILLIS) {
+            bounds[size++] = bound;
+            bound = Math.max(bound + 1, (long) Math.ceil(bound * GROWTH));
+        }
+        bounds[size++] = MAX_TRACKABLE_MILLIS;
+        long[] trimmed = new long[size];
+        System.arraycopy(bounds, 0, trimmed, 0, size);
+        return trimmed;
+    }
+}
@@ -0,0 +1,154 @@
+package com.vibe.yoriview.domain.ocr;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OCR 요청 입장 제어.
+ * 전체 동시 처리(실행 + 대기) 수와 사용자/IP 별 동시 처리 수를 제한하고,
+ * 한도를 넘는 요청은 기다리게 하지 않고 바로 OcrRejectedException 으로 거절합니다.
+ */
+@Slf4j
+class OcrAdmissionControl {
+
+    // 최근 작업 처리 시간 이동 평균 가중치
+    private static final double DURATION_WEIGHT = 0.2;
+    private static final long MAX_RETRY_AFTER_SECONDS = 60;
+
+    private final int maxInFlight;
+    private final int maxPerClient;
+    private final int workerThreads;
+    private final Semaphore slots;
+    private final Map<String, Integer> inFlightByClient = new ConcurrentHashMap<>();
+
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile double averageDurationMillis;
+
+    OcrAdmissionControl(int maxInFlight, int maxPerClient, int workerThreads, long initialDurationMillis) {
+        this.maxInFlight = maxInFlight;
+        this.maxPerClient = maxPerClient;
+        this.workerThreads = workerThreads;
+        this.slots = new Semaphore(maxInFlight);
+        this.averageDurationMillis = initialDurationMillis;
+    }
+
+    /**
+     * 처리 슬롯을 하나 확보합니다. 작업이 끝나면 반환된 Permit 을 release 해야 합니다.
+     */
+    Permit acquire(String clientKey) {
+        acquireClient(clientKey);
+
+        if (!slots.tryAcquire()) {
+            releaseClient(clientKey);
+            rejected.incrementAndGet();
+            log.warn("OCR 요청 거절 (대기열 가득 참): client={}, limit={}", clientKey, maxInFlight);
+            throw new OcrRejectedException("잠시 후 다시 시도해주세요.", untilNextSlot());
+        }
+
+        admitted.incrementAndGet();
+        return new Permit(clientKey, true);
+    }
+
+    /**
+     * 일괄 처리 요청용으로 클라이언트 한도만 하나 확보합니다.
+     * 일괄 처리 전체가 클라이언트의 요청 하나로 계산되고, 각 이미지는 tryAcquireSlot 으로 처리 슬롯을 따로 받습니다.
+     */
+    Permit acquireSession(String clientKey) {
+        acquireClient(clientKey);
+        admitted.incrementAndGet();
+        return new Permit(clientKey, false);
+    }
+
+    /**
+     * 처리 슬롯만 확보합니다. 남은 슬롯이 없으면 거절하지 않고 null 을 반환합니다.
+     */
+    Permit tryAcquireSlot() {
+        return slots.tryAcquire() ? new Permit(null, true) : null;
+    }
+
+    private void acquireClient(String clientKey) {
+        // 클라이언트별 한도를 먼저 확인해 한 클라이언트가 전체 슬롯을 차지하지 못하게 함
+        boolean[] clientAdmitted = {false};
+        inFlightByClient.compute(clientKey, (key, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxPerClient) {
+                return count;
+            }
+            clientAdmitted[0] = true;
+            return current + 1;
+        });
+        if (!clientAdmitted[0]) {
+            rejected.incrementAndGet();
+            log.warn("OCR 요청 거절 (클라이언트 동시 처리 한도): client={}, limit={}", clientKey, maxPerClient);
+            throw new OcrRejectedException("이전 요청이 끝난 뒤 다시 시도해주세요.", untilQueueDrains());
+        }
+    }
+
+    synchronized void recordDuration(long durationMillis) {
+        averageDurationMillis = averageDurationMillis * (1 - DURATION_WEIGHT) + durationMillis * DURATION_WEIGHT;
+    }
+
+    // 워커가 모두 바쁠 때 평균적으로 작업 하나가 끝나 슬롯이 비는 시간
+    private long untilNextSlot() {
+        return clampRetryAfter(averageDurationMillis / workerThreads);
+    }
+
+    // 지금 들어와 있는 작업이 워커 수만큼씩 처리된다고 보고 모두 끝날 때까지의 시간
+    private long untilQueueDrains() {
+        int inFlight = maxInFlight - slots.availablePermits();
+        return clampRetryAfter(averageDurationMillis * Math.max(1.0, Math.ceil((double) inFlight / workerThreads)));
+    }
+
+    private long clampRetryAfter(double millis) {
+        long seconds = (long) Math.ceil(millis / 1000.0);
+        return Math.min(MAX_RETRY_AFTER_SECONDS, Math.max(1, seconds));
+    }
+
+    Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxInFlight", maxInFlight);
+        stats.put("maxPerClient", maxPerClient);
+        stats.put("inFlight", maxInFlight - slots.availablePermits());
+        stats.put("clients", inFlightByClient.size());
+        stats.put("admitted", admitted.get());
+        stats.put("rejected", rejected.get());
+        stats.put("averageDurationMillis", Math.round(averageDurationMillis));
+        return stats;
+    }
+
+    private void releaseClient(String clientKey) {
+        inFlightByClient.computeIfPresent(clientKey, (key, count) -> count <= 1 ? null : count - 1);
+    }
+
+    /**
+     * 확보한 클라이언트 한도 / 처리 슬롯. 여러 번 release 해도 한 번만 반환됩니다.
+     */
+    class Permit {
+        private final String clientKey; // null 이면 클라이언트 한도를 잡지 않은 슬롯
+        private final boolean holdsSlot;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(String clientKey, boolean holdsSlot) {
+            this.clientKey = clientKey;
+            this.holdsSlot = holdsSlot;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                if (holdsSlot) {
+                    slots.release();
+                }
+                if (clientKey != null) {
+                    releaseClient(clientKey);
+                }
+            }
+        }
+    }
+}
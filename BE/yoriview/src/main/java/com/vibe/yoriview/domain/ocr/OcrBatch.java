@@ -0,0 +1,221 @@
+package com.vibe.yoriview.domain.ocr;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 OCR 처리 진행 상태.
+ * 처리 슬롯이 나는 대로 최대 parallelism 개씩 작업을 워커 풀에 등록하고,
+ * 끝난 이미지부터 결과를 전달합니다. 한 이미지의 실패는 해당 항목의 결과로만 보고합니다.
+ */
+@Slf4j
+public class OcrBatch {
+
+    // 처리 슬롯이 모두 차 있을 때 다시 시도하기까지의 간격
+    private static final long RETRY_DELAY_MILLIS = 200;
+
+    private final OcrService ocrService;
+    private final List<Item> items;
+    private final int parallelism;
+    private final OcrAdmissionControl.Permit session;
+    private final OcrBatchListener listener;
+    private final long submittedAt = System.currentTimeMillis();
+
+    private final List<OcrJob> running = new ArrayList<>();
+    private int next;
+    private int finished;
+    private int completed;
+    private int failed;
+    private boolean retryScheduled;
+    private boolean aborted;
+
+    OcrBatch(OcrService ocrService, List<Item> items, int parallelism,
+             OcrAdmissionControl.Permit session, OcrBatchListener listener) {
+        this.ocrService = ocrService;
+        this.items = items;
+        this.parallelism = Math.max(1, parallelism);
+        this.session = session;
+        this.listener = listener;
+    }
+
+    /**
+     * 빈 처리 슬롯만큼 다음 이미지를 등록합니다.
+     */
+    void pump() {
+        List<Started> started = new ArrayList<>();
+        synchronized (this) {
+            while (!aborted && next < items.size() && running.size() < parallelism) {
+                Item item = items.get(next);
+                if (item.workspace == null) {
+                    next++;
+                    report(item.failure());
+                    continue;
+                }
+
+                OcrAdmissionControl.Permit slot = ocrService.tryAcquireSlot();
+                if (slot == null) {
+                    // 이 일괄 처리에서 진행 중인 작업이 없으면 완료 콜백이 없으므로 직접 다시 시도
+                    if (running.isEmpty() && !retryScheduled) {
+                        retryScheduled = true;
+                        ocrService.schedule(this::retry, RETRY_DELAY_MILLIS);
+                    }
+                    break;
+                }
+
+                next++;
+                try {
+                    OcrJob job = ocrService.start(item.workspace, slot, submittedAt);
+                    running.add(job);
+                    started.add(new Started(item, job));
+                } catch (OcrProcessingException e) {
+                    report(Item.failed(item.index, item.fileName, e.getError(), e.getDetails()).failure());
+                }
+            }
+            finishIfDone();
+        }
+
+        // 캐시 적중처럼 이미 끝난 작업은 콜백이 바로 실행되므로 잠금 밖에서 등록
+        for (Started entry : started) {
+            if (!entry.job.getStatus().isFinished()) {
+                ocrService.scheduleTimeout(entry.job);
+            }
+            entry.job.getCompletion().whenComplete((result, error) -> onFinished(entry.item, entry.job));
+        }
+    }
+
+    /**
+     * 클라이언트 연결이 끊기거나 시간이 초과되면 남은 이미지를 처리하지 않고 정리합니다.
+     */
+    public void abort() {
+        List<OcrJob> toCancel;
+        synchronized (this) {
+            if (aborted) {
+                return;
+            }
+            aborted = true;
+            toCancel = new ArrayList<>(running);
+            for (int i = next; i < items.size(); i++) {
+                items.get(i).discard();
+            }
+            next = items.size();
+            session.release();
+        }
+        log.warn("OCR 일괄 처리 중단: 진행 중 {}건 취소", toCancel.size());
+        toCancel.forEach(job -> ocrService.cancel(job, "일괄 처리가 중단되었습니다"));
+    }
+
+    private void retry() {
+        synchronized (this) {
+            retryScheduled = false;
+        }
+        pump();
+    }
+
+    private void onFinished(Item item, OcrJob job) {
+        synchronized (this) {
+            running.remove(job);
+            if (!aborted) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("index", item.index);
+                line.put("fileName", item.fileName);
+                line.putAll(job.toResponse());
+                report(line);
+            }
+            finishIfDone();
+        }
+        pump();
+    }
+
+    // 호출하는 쪽에서 this 잠금을 잡고 있어야 함
+    private void report(Map<String, Object> line) {
+        finished++;
+        if (OcrJobStatus.COMPLETED.equals(line.get("status"))) {
+            completed++;
+        } else {
+            failed++;
+        }
+        try {
+            listener.onItem(line);
+        } catch (IOException e) {
+            log.warn("OCR 일괄 처리 결과 전송 실패: {}", e.getMessage());
+            abortLater();
+        }
+    }
+
+    private void finishIfDone() {
+        if (aborted || finished < items.size()) {
+            return;
+        }
+        aborted = true; // 이후 호출 무시
+        session.release();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("done", true);
+        summary.put("total", items.size());
+        summary.put("completed", completed);
+        summary.put("failed", failed);
+        summary.put("elapsedMillis", System.currentTimeMillis() - submittedAt);
+        log.info("OCR 일괄 처리 완료: {}", summary);
+        try {
+            listener.onComplete(summary);
+        } catch (IOException e) {
+            log.warn("OCR 일괄 처리 결과 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    // 잠금을 잡은 채로 다른 작업을 취소하지 않도록 스케줄러에서 중단
+    private void abortLater() {
+        ocrService.schedule(this::abort, 0);
+    }
+
+    private record Started(Item item, OcrJob job) {
+    }
+
+    /**
+     * 일괄 처리의 이미지 하나. 저장에 성공했으면 workspace, 실패했으면 error / details 를 가집니다.
+     */
+    static final class Item {
+        private final int index;
+        private final String fileName;
+        private final OcrWorkspace workspace;
+        private final String error;
+        private final String details;
+
+        private Item(int index, String fileName, OcrWorkspace workspace, String error, String details) {
+            this.index = index;
+            this.fileName = fileName;
+            this.workspace = workspace;
+            this.error = error;
+            this.details = details;
+        }
+
+        static Item staged(int index, String fileName, OcrWorkspace workspace) {
+            return new Item(index, fileName, workspace, null, null);
+        }
+
+        static Item failed(int index, String fileName, String error, String details) {
+            return new Item(index, fileName, null, error, details);
+        }
+
+        void discard() {
+            if (workspace != null) {
+                workspace.close();
+            }
+        }
+
+        private Map<String, Object> failure() {
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("index", index);
+            line.put("fileName", fileName);
+            line.put("status", OcrJobStatus.FAILED);
+            line.put("error", error);
+            line.put("details", details);
+            return line;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.vibe.yoriview.domain.ocr;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 일괄 OCR 처리 결과를 받는 쪽 (예: NDJSON 스트리밍 응답).
+ * IOException 을 던지면 클라이언트 연결이 끊긴 것으로 보고 남은 처리를 중단합니다.
+ */
+public interface OcrBatchListener {
+
+    // 이미지 하나가 끝날 때마다 (완료 순서대로) 호출
+    void onItem(Map<String, Object> item) throws IOException;
+
+    // 모든 이미지가 끝나면 한 번 호출
+    void onComplete(Map<String, Object> summary) throws IOException;
+}
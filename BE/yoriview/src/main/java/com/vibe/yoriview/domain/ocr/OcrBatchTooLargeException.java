@@ -0,0 +1,11 @@
+package com.vibe.yoriview.domain.ocr;
+
+/**
+ * 일괄 처리 요청의 이미지 수가 한도를 넘었을 때 발생합니다. 400 응답으로 변환됩니다.
+ */
+public class OcrBatchTooLargeException extends OcrProcessingException {
+
+    public OcrBatchTooLargeException(int maxItems) {
+        super("일괄 처리 개수 초과", maxItems + "개 이하의 이미지만 한 번에 처리할 수 있습니다.");
+    }
+}
@@ -0,0 +1,208 @@
+package com.vibe.yoriview.domain.ocr;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 OCR/LLM 단계(CLOVA, Gemini) 서킷 브레이커.
+ * 최근 window 동안의 실패율과 느린 호출 비율을 시간 버킷으로 집계하고, 기준을 넘으면 open 상태로 바꿔
+ * 엔진을 호출하지 않고 바로 수동 입력 응답을 돌려주게 합니다.
+ * open 시간이 지나면 half-open 상태에서 일부 요청만 통과시켜 회복 여부를 확인합니다.
+ */
+@Slf4j
+class OcrCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int BUCKETS = 10;
+
+    private final boolean enabled;
+    private final long bucketMillis;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallMillis;
+    private final double slowCallRateThreshold;
+    private final long openMillis;
+    private final int halfOpenProbes;
+    private final LongSupplier clock;
+
+    // 버킷별 집계 (bucketIds[i] 가 현재 시간 버킷과 다르면 지난 값이므로 무시)
+    private final long[] bucketIds = new long[BUCKETS];
+    private final int[] calls = new int[BUCKETS];
+    private final int[] failures = new int[BUCKETS];
+    private final int[] slowCalls = new int[BUCKETS];
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private long openedCount;
+    private long rejectedCount;
+
+    OcrCircuitBreaker(boolean enabled, long windowMillis, int minimumCalls, double failureRateThreshold,
+                      long slowCallMillis, double slowCallRateThreshold, long openMillis, int halfOpenProbes) {
+        this(enabled, windowMillis, minimumCalls, failureRateThreshold, slowCallMillis, slowCallRateThreshold,
+                openMillis, halfOpenProbes, System::currentTimeMillis);
+    }
+
+    OcrCircuitBreaker(boolean enabled, long windowMillis, int minimumCalls, double failureRateThreshold,
+                      long slowCallMillis, double slowCallRateThreshold, long openMillis, int halfOpenProbes,
+                      LongSupplier clock) {
+        this.enabled = enabled;
+        this.bucketMillis = Math.max(1, windowMillis / BUCKETS);
+        this.minimumCalls = Math.max(1, minimumCalls);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallMillis = slowCallMillis;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openMillis = openMillis;
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.clock = clock;
+        resetWindow();
+    }
+
+    /**
+     * open 상태이고 아직 시험 요청을 보낼 때가 아니면 true. (대기열에 넣기 전 빠른 확인용, 시험 슬롯을 쓰지 않음)
+     */
+    synchronized boolean isOpen() {
+        return enabled && state == State.OPEN && clock.getAsLong() - openedAt < openMillis;
+    }
+
+    /**
+     * 엔진을 호출해도 되는지 확인합니다. true 를 받았으면 결과를 onSuccess/onFailure 로 반드시 알려야 합니다.
+     */
+    synchronized boolean tryAcquire() {
+        if (!enabled) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openMillis) {
+                rejectedCount++;
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            log.info("OCR 서킷 브레이커 half-open: 시험 요청 {}건 허용", halfOpenProbes);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                rejectedCount++;
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess(long durationMillis) {
+        record(false, durationMillis);
+    }
+
+    synchronized void onFailure(long durationMillis) {
+        record(true, durationMillis);
+    }
+
+    private void record(boolean failed, long durationMillis) {
+        if (!enabled) {
+            return;
+        }
+        boolean slow = durationMillis > slowCallMillis;
+
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            if (failed || slow) {
+                open("시험 요청 " + (failed ? "실패" : "지연 " + durationMillis + "ms"));
+            } else {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return; // open 되기 전에 통과한 요청의 결과
+        }
+
+        int index = currentBucket();
+        calls[index]++;
+        if (failed) {
+            failures[index]++;
+        }
+        if (slow) {
+            slowCalls[index]++;
+        }
+
+        int[] totals = windowTotals();
+        if (totals[0] < minimumCalls) {
+            return;
+        }
+        double failureRate = (double) totals[1] / totals[0];
+        double slowCallRate = (double) totals[2] / totals[0];
+        if (failureRate >= failureRateThreshold || slowCallRate >= slowCallRateThreshold) {
+            open(String.format("실패율 %.0f%%, 느린 호출 %.0f%% (%d건)", failureRate * 100, slowCallRate * 100, totals[0]));
+        }
+    }
+
+    private void open(String reason) {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        openedCount++;
+        log.warn("OCR 서킷 브레이커 open: {}, {}ms 동안 OCR 없이 수동 입력 응답", reason, openMillis);
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        resetWindow();
+        log.info("OCR 서킷 브레이커 closed: 외부 OCR 회복 확인");
+    }
+
+    private void resetWindow() {
+        Arrays.fill(bucketIds, Long.MIN_VALUE);
+        Arrays.fill(calls, 0);
+        Arrays.fill(failures, 0);
+        Arrays.fill(slowCalls, 0);
+    }
+
+    private int currentBucket() {
+        long bucketId = clock.getAsLong() / bucketMillis;
+        int index = (int) (bucketId % BUCKETS);
+        if (bucketIds[index] != bucketId) {
+            bucketIds[index] = bucketId;
+            calls[index] = 0;
+            failures[index] = 0;
+            slowCalls[index] = 0;
+        }
+        return index;
+    }
+
+    // window 안의 {호출 수, 실패 수, 느린 호출 수}
+    private int[] windowTotals() {
+        long oldest = clock.getAsLong() / bucketMillis - BUCKETS + 1;
+        int[] totals = new int[3];
+        for (int i = 0; i < BUCKETS; i++) {
+            if (bucketIds[i] >= oldest) {
+                totals[0] += calls[i];
+                totals[1] += failures[i];
+                totals[2] += slowCalls[i];
+            }
+        }
+        return totals;
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    synchronized Map<String, Object> getStats() {
+        int[] totals = windowTotals();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("state", state);
+        stats.put("windowCalls", totals[0]);
+        stats.put("windowFailures", totals[1]);
+        stats.put("windowSlowCalls", totals[2]);
+        stats.put("openedCount", openedCount);
+        stats.put("rejected", rejectedCount);
+        return stats;
+    }
+}
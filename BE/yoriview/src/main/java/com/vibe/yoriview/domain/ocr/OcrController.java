@@ -1,32 +1,45 @@
 package com.vibe.yoriview.domain.ocr;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.*;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/ocr")
+@RequiredArgsConstructor
 public class OcrController {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OcrService ocrService;
+    private final OcrResultCache resultCache;
+    private final OcrMetrics metrics;
+    private final ObjectMapper objectMapper;
 
-    // Docker 환경에서 고정 경로 사용
-    private final String OCR_BASE_PATH = "/app/ocr";
-    private final String INPUT_DIR = OCR_BASE_PATH + "/input";
-    private final String OUTPUT_DIR = OCR_BASE_PATH + "/output";
-    private final String PYTHON_SCRIPT_PATH = OCR_BASE_PATH + "/ocr-parser.py";
+    private static final MediaType NDJSON_UTF8 = new MediaType(MediaType.APPLICATION_NDJSON, StandardCharsets.UTF_8);
+
+    @Value("${ocr.batch.timeout-seconds:600}")
+    private long batchTimeoutSeconds;
 
     @RequestMapping(value = "/process", method = RequestMethod.OPTIONS)
     public ResponseEntity<?> handleOptions() {
@@ -42,8 +55,8 @@ public class OcrController {
         return ResponseEntity.ok(response);
     }
 
-    @PostMapping("/process")
-    public ResponseEntity<?> processReceipt(@RequestParam("image") MultipartFile file) {
+    @PostMapping(value = "/process", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> processReceipt(@RequestParam("image") MultipartFile file, HttpServletRequest request) {
         try {
             log.info("OCR 요청 받음: 파일명={}, 크기={}bytes, 컨텐츠 타입={}",
                     file.getOriginalFilename(),
@@ -51,42 +64,25 @@ public class OcrController {
                     file.getContentType());
 
             // 파일 크기 제한 체크 (8MB)
-            if (file.getSize() > 8 * 1024 * 1024) {
-                log.error("파일 크기 초과: {}bytes", file.getSize());
+            if (isTooLarge(file)) {
                 return ResponseEntity.badRequest()
                         .body(createErrorResponse("파일 크기 초과", "8MB 이하의 파일만 업로드 가능합니다."));
             }
 
-            // 1. 디렉토리 생성
-            createDirectories();
-
-            // 2. 파일 저장
-            String savedFilePath = saveImageFile(file);
-            log.info("이미지 파일 저장됨: {}", savedFilePath);
-
-            // 3. Python 스크립트 실행
-            ProcessResult processResult = executePythonScript();
-
-            if (!processResult.isSuccess()) {
-                log.error("Python 스크립트 실행 실패: {}", processResult.getErrorMessage());
-                return ResponseEntity.internalServerError()
-                        .body(createErrorResponse("OCR 처리 실패", processResult.getErrorMessage()));
-            }
-
-            // 4. 결과 파일 읽기
-            Map<String, Object> ocrResult = readOcrResult();
-
-            if (ocrResult == null) {
-                return ResponseEntity.internalServerError()
-                        .body(createErrorResponse("OCR 결과를 읽을 수 없습니다", "결과 파일이 생성되지 않았습니다"));
-            }
-
-            // 5. 응답 형식 변환
-            Map<String, Object> response = convertToResponseFormat(ocrResult, processResult.getOutput());
+            // 요청별 워크스페이스에서 OCR 수행
+            long startedAt = System.currentTimeMillis();
+            Map<String, Object> response = ocrService.process(file, clientKey(request));
+            metrics.record("request", System.currentTimeMillis() - startedAt);
 
             log.info("OCR 처리 완료: {}", response);
             return ResponseEntity.ok(response);
 
+        } catch (OcrRejectedException e) {
+            return tooManyRequests(e);
+        } catch (OcrProcessingException e) {
+            log.error("OCR 처리 실패: {}", e.getMessage());
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse(e.getError(), e.getDetails()));
         } catch (Exception e) {
             log.error("OCR 처리 중 오류 발생", e);
             return ResponseEntity.internalServerError()
@@ -94,178 +90,182 @@ public class OcrController {
         }
     }
 
-    private void createDirectories() throws IOException {
-        Files.createDirectories(Paths.get(INPUT_DIR));
-        Files.createDirectories(Paths.get(OUTPUT_DIR));
-        log.info("OCR 디렉토리 생성 완료: input={}, output={}", INPUT_DIR, OUTPUT_DIR);
-    }
+    // 비동기 OCR 요청: 작업 ID 를 바로 반환하고, 결과는 폴링(/jobs/{jobId}) 또는 SSE(/jobs/{jobId}/events)로 조회
+    @PostMapping(value = "/process", params = "async=true", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> submitReceipt(@RequestParam("image") MultipartFile file, HttpServletRequest request) {
+        try {
+            log.info("비동기 OCR 요청 받음: 파일명={}, 크기={}bytes", file.getOriginalFilename(), file.getSize());
 
-    private String saveImageFile(MultipartFile file) throws IOException {
-        // 먼저 input 디렉토리의 모든 파일 삭제
-        Path inputDirPath = Paths.get(INPUT_DIR);
-        if (Files.exists(inputDirPath)) {
-            Files.list(inputDirPath)
-                    .forEach(path -> {
-                        try {
-                            Files.delete(path);
-                            log.info("기존 파일 삭제: {}", path);
-                        } catch (IOException e) {
-                            log.warn("파일 삭제 실패: {}", path);
-                        }
-                    });
-        }
+            if (isTooLarge(file)) {
+                return ResponseEntity.badRequest()
+                        .body(createErrorResponse("파일 크기 초과", "8MB 이하의 파일만 업로드 가능합니다."));
+            }
 
-        // output 디렉토리의 모든 파일도 삭제
-        Path outputDirPath = Paths.get(OUTPUT_DIR);
-        if (Files.exists(outputDirPath)) {
-            Files.list(outputDirPath)
-                    .forEach(path -> {
-                        try {
-                            Files.delete(path);
-                            log.info("기존 결과 파일 삭제: {}", path);
-                        } catch (IOException e) {
-                            log.warn("결과 파일 삭제 실패: {}", path);
-                        }
-                    });
-        }
+            OcrJob job = ocrService.submit(file, clientKey(request));
+            return ResponseEntity.accepted().body(toJobResponse(job));
 
-        // 파일 확장자 추출
-        String originalFilename = file.getOriginalFilename();
-        String extension = "jpg"; // 기본값
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf(".") + 1).toLowerCase();
+        } catch (OcrRejectedException e) {
+            return tooManyRequests(e);
+        } catch (OcrProcessingException e) {
+            log.error("OCR 작업 등록 실패: {}", e.getMessage());
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse(e.getError(), e.getDetails()));
         }
-
-        // receipt.확장자 형태로 저장
-        String fileName = "receipt." + extension;
-        Path filePath = Paths.get(INPUT_DIR, fileName);
-
-        // 새 파일 저장
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-        log.info("새 파일 저장됨: {}", filePath);
-
-        return filePath.toString();
     }
 
-    private ProcessResult executePythonScript() {
+    // 이미지 바이너리를 요청 본문으로 직접 받는 스트리밍 업로드
+    // multipart 임시 파일을 거치지 않고 워크스페이스에 한 번만 기록하며, 읽는 도중 8MB 를 넘으면 바로 중단
+    @PostMapping(value = "/process", consumes = {"image/*", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<?> processReceiptStream(HttpServletRequest request,
+                                                  @RequestParam(defaultValue = "false") boolean async) {
         try {
-            // 절대 경로 사용
-            File scriptFile = new File(PYTHON_SCRIPT_PATH);
-            if (!scriptFile.exists()) {
-                log.error("Python 스크립트 파일을 찾을 수 없습니다: {}", PYTHON_SCRIPT_PATH);
-                return new ProcessResult(false, "Python 스크립트 파일을 찾을 수 없습니다", "");
-            }
-
-            // Windows와 Unix 환경에서 모두 작동하도록 Python 명령어 설정
-            String pythonCommand = System.getProperty("os.name").toLowerCase().contains("win") ? "python" : "python3";
-
-            ProcessBuilder processBuilder = new ProcessBuilder(pythonCommand, PYTHON_SCRIPT_PATH);
-            processBuilder.directory(new File(OCR_BASE_PATH));
-            processBuilder.redirectErrorStream(true);
+            log.info("OCR 스트리밍 요청 받음: 컨텐츠 타입={}, 크기={}bytes, async={}",
+                    request.getContentType(), request.getContentLengthLong(), async);
 
-            log.info("Python 스크립트 실행 시작: {}", PYTHON_SCRIPT_PATH);
-            log.info("작업 디렉토리: {}", OCR_BASE_PATH);
-            log.info("Python 명령어: {}", pythonCommand);
-
-            Process process = processBuilder.start();
-
-            // 출력 읽기
-            StringBuilder output = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    output.append(line).append("\n");
-                    log.info("Python 출력: {}", line);
-                }
+            // Content-Length 가 있으면 본문을 읽기 전에 먼저 거절
+            if (request.getContentLengthLong() > OcrWorkspace.MAX_IMAGE_BYTES) {
+                throw new OcrImageTooLargeException();
             }
 
-            // 프로세스 완료 대기 (최대 30초)
-            boolean finished = process.waitFor(30, java.util.concurrent.TimeUnit.SECONDS);
-
-            if (!finished) {
-                process.destroyForcibly();
-                return new ProcessResult(false, "Python 스크립트 실행 타임아웃", "");
+            String extension = extensionOf(request.getContentType());
+            if (async) {
+                OcrJob job = ocrService.submit(request.getInputStream(), extension, clientKey(request));
+                return ResponseEntity.accepted().body(toJobResponse(job));
             }
 
-            int exitCode = process.exitValue();
-            String outputStr = output.toString();
-
-            log.info("Python 스크립트 완료: exitCode={}, output={}", exitCode, outputStr);
-
-            if (exitCode == 0) {
-                return new ProcessResult(true, "", outputStr);
-            } else {
-                return new ProcessResult(false, "Python 스크립트 실행 오류 (exit code: " + exitCode + "): " + outputStr,
-                        outputStr);
-            }
+            long startedAt = System.currentTimeMillis();
+            Map<String, Object> response = ocrService.process(request.getInputStream(), extension, clientKey(request));
+            metrics.record("request", System.currentTimeMillis() - startedAt);
+            log.info("OCR 처리 완료: {}", response);
+            return ResponseEntity.ok(response);
 
+        } catch (OcrImageTooLargeException e) {
+            log.error("파일 크기 초과: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(createErrorResponse(e.getError(), e.getDetails()));
+        } catch (OcrRejectedException e) {
+            return tooManyRequests(e);
+        } catch (OcrProcessingException e) {
+            log.error("OCR 처리 실패: {}", e.getMessage());
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse(e.getError(), e.getDetails()));
         } catch (Exception e) {
-            log.error("Python 스크립트 실행 중 예외 발생", e);
-            return new ProcessResult(false, "Python 스크립트 실행 예외: " + e.getMessage(), "");
+            log.error("OCR 처리 중 오류 발생", e);
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse("OCR 처리 중 오류가 발생했습니다", e.getMessage()));
         }
     }
 
-    private Map<String, Object> readOcrResult() {
-        try {
-            Path resultFilePath = Paths.get(OUTPUT_DIR, "receipt_result.json");
-
-            if (!Files.exists(resultFilePath)) {
-                log.error("OCR 결과 파일이 존재하지 않음: {}", resultFilePath);
-                return null;
+    // 여러 영수증 일괄 OCR: 워커 풀에서 병렬로 처리하고, 이미지마다 끝나는 대로 한 줄씩 NDJSON 으로 전송
+    // 각 줄: {"index", "fileName", "jobId", "status", "result" | "error"/"details"}, 마지막 줄: {"done": true, "completed", "failed"}
+    // 한도 초과(429), 개수 초과(400)는 GlobalExceptionHandler 에서 응답으로 변환
+    @PostMapping(value = "/process/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> processBatch(@RequestParam("images") List<MultipartFile> files,
+                                                            HttpServletRequest request) {
+        log.info("일괄 OCR 요청 받음: 파일 수={}", files.size());
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(TimeUnit.SECONDS.toMillis(batchTimeoutSeconds));
+        OcrBatch batch = ocrService.processBatch(files, clientKey(request), new OcrBatchListener() {
+            @Override
+            public void onItem(Map<String, Object> item) throws IOException {
+                emitter.send(objectMapper.writeValueAsString(item) + "\n", NDJSON_UTF8);
             }
 
-            String jsonContent = Files.readString(resultFilePath);
-            log.info("OCR 결과 파일 읽기 완료: {}", jsonContent);
+            @Override
+            public void onComplete(Map<String, Object> summary) throws IOException {
+                emitter.send(objectMapper.writeValueAsString(summary) + "\n", NDJSON_UTF8);
+                emitter.complete();
+            }
+        });
+        emitter.onTimeout(batch::abort);
+        emitter.onError(e -> batch.abort());
 
-            return objectMapper.readValue(jsonContent, Map.class);
+        return ResponseEntity.ok().contentType(NDJSON_UTF8).body(emitter);
+    }
 
-        } catch (Exception e) {
-            log.error("OCR 결과 파일 읽기 실패", e);
-            return null;
-        }
+    // OCR 작업 상태 조회 (폴링)
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable String jobId) {
+        return ocrService.getJob(jobId)
+                .<ResponseEntity<?>>map(job -> ResponseEntity.ok(job.toResponse()))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(createErrorResponse("작업을 찾을 수 없습니다", "jobId=" + jobId)));
     }
 
-    private Map<String, Object> convertToResponseFormat(Map<String, Object> ocrResult, String pythonOutput) {
-        Map<String, Object> response = new HashMap<>();
+    // OCR 작업 상태 구독 (SSE)
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeJob(@PathVariable String jobId) {
+        return ocrService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(ocrService.subscribe(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 
-        response.put("text", pythonOutput);
-        response.put("restaurantName", ocrResult.getOrDefault("storeName", "알 수 없는 식당"));
-        response.put("address", ocrResult.getOrDefault("address", ""));
-        response.put("items", ocrResult.getOrDefault("menuItems", new java.util.ArrayList<>()));
-        response.put("total", ocrResult.getOrDefault("totalPrice", 0));
+    // OCR 결과 캐시 통계 (적중/미스/제거 횟수)
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getCacheStats() {
+        return ResponseEntity.ok(resultCache.getStats());
+    }
 
-        return response;
+    // OCR 단계별 처리 시간 (count, mean, p50/p95/p99, max)
+    // upload: 이미지 저장, queue: 대기, engine: 엔진 전체, clova/gemini/python.*: 엔진 내부 단계,
+    // engine.overhead: 엔진 내부 단계 외 시간(프로세스 실행/IPC), cleanup: 워크스페이스 삭제, total: 등록~완료
+    @GetMapping("/metrics")
+    public ResponseEntity<?> getMetrics() {
+        return ResponseEntity.ok(metrics.getSnapshot());
     }
 
-    private Map<String, Object> createErrorResponse(String error, String details) {
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("error", error);
-        errorResponse.put("details", details);
-        return errorResponse;
+    // OCR 입장 제어 통계 (동시 처리 수, 거절 횟수)
+    @GetMapping("/admission/stats")
+    public ResponseEntity<?> getAdmissionStats() {
+        return ResponseEntity.ok(ocrService.getAdmissionStats());
     }
 
-    // 내부 클래스: 프로세스 실행 결과
-    private static class ProcessResult {
-        private final boolean success;
-        private final String errorMessage;
-        private final String output;
+    private Map<String, Object> toJobResponse(OcrJob job) {
+        Map<String, Object> response = job.toResponse();
+        response.put("statusUrl", "/api/ocr/jobs/" + job.getJobId());
+        response.put("eventsUrl", "/api/ocr/jobs/" + job.getJobId() + "/events");
+        return response;
+    }
 
-        public ProcessResult(boolean success, String errorMessage, String output) {
-            this.success = success;
-            this.errorMessage = errorMessage;
-            this.output = output;
+    // image/jpeg -> jpg, image/png -> png (알 수 없으면 jpg)
+    private String extensionOf(String contentType) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            return "jpg";
         }
+        String subtype = MediaType.parseMediaType(contentType).getSubtype();
+        return "jpeg".equals(subtype) ? "jpg" : subtype;
+    }
 
-        public boolean isSuccess() {
-            return success;
+    private boolean isTooLarge(MultipartFile file) {
+        if (file.getSize() > OcrWorkspace.MAX_IMAGE_BYTES) {
+            log.error("파일 크기 초과: {}bytes", file.getSize());
+            return true;
         }
+        return false;
+    }
 
-        public String getErrorMessage() {
-            return errorMessage;
+    // 로그인 사용자는 userId, 비로그인 요청은 IP 기준으로 동시 처리 한도 적용
+    // 프록시 뒤에서는 server.forward-headers-strategy 로 X-Forwarded-For 의 클라이언트 IP 가 remoteAddr 이 됨
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
         }
+        return "ip:" + request.getRemoteAddr();
+    }
 
-        public String getOutput() {
-            return output;
-        }
+    private ResponseEntity<?> tooManyRequests(OcrRejectedException e) {
+        log.warn("OCR 요청 거절: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(createErrorResponse(e.getError(), e.getDetails()));
+    }
+
+    private Map<String, Object> createErrorResponse(String error, String details) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", error);
+        errorResponse.put("details", details);
+        return errorResponse;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.vibe.yoriview.domain.ocr;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 영수증 이미지 인식 엔진.
+ * 워크스페이스에 저장된 이미지를 OCR 한 뒤 storeName / address / menuItems / totalPrice 형태로 파싱합니다.
+ * OCR 과 AI 파싱을 나눠 호출할 수도 있어, 규칙 기반 파서(ReceiptTextParser)로 충분한 영수증은 AI 호출을 생략합니다.
+ */
+public interface OcrEngine {
+
+    // ocr.engine 설정값으로 사용하는 엔진 이름
+    String getName();
+
+    // OCR 텍스트만 추출 (parsed 는 null)
+    OcrEngineResult recognizeText(OcrWorkspace workspace);
+
+    // OCR 텍스트를 AI 로 파싱 (실패하면 failedStage 를 채운 빈 결과)
+    OcrEngineResult parseText(OcrWorkspace workspace, String ocrText);
+
+    // 동시에 처리할 수 있는 작업 수 한도 (0 이면 제한 없음). OCR 워커 스레드 수를 이 값 이하로 맞춤
+    default int maxConcurrency() {
+        return 0;
+    }
+
+    // OCR + AI 파싱
+    default OcrEngineResult recognize(OcrWorkspace workspace) {
+        OcrEngineResult ocr = recognizeText(workspace);
+        OcrEngineResult parsed = parseText(workspace, ocr.getText());
+        Map<String, Long> timings = new LinkedHashMap<>(ocr.getTimings());
+        timings.putAll(parsed.getTimings());
+        return new OcrEngineResult(parsed.getParsed(), ocr.getText(), timings, parsed.getFailedStage());
+    }
+}
@@ -0,0 +1,19 @@
+package com.vibe.yoriview.domain.ocr;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class OcrEngineResult {
+    private final Map<String, Object> parsed; // storeName, address, menuItems, totalPrice
+    private final String text;                // 응답의 text 필드 (엔진 출력)
+    private final Map<String, Long> timings;  // 엔진 내부 단계별 처리 시간(ms), 예: clova, gemini
+    private final String failedStage;         // 실패해 빈 결과로 대신한 단계 (예: gemini), 없으면 null
+
+    public OcrEngineResult(Map<String, Object> parsed, String text, Map<String, Long> timings) {
+        this(parsed, text, timings, null);
+    }
+}
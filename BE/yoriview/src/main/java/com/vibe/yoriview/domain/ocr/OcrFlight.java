@@ -0,0 +1,103 @@
+package com.vibe.yoriview.domain.ocr;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * 이미지(내용 해시) 하나에 대해 실제로 실행되는 OCR.
+ * 같은 이미지로 들어온 작업(OcrJob)들이 합류해 결과를 함께 받습니다.
+ * 한 작업이 시간 초과 등으로 취소되면 그 작업만 떠나고, 기다리는 작업이 하나도 남지 않았을 때만 실행을 중단합니다.
+ */
+class OcrFlight {
+
+    @Getter
+    private final String imageHash;
+    @Getter
+    private final OcrWorkspace workspace;
+    @Getter
+    private final CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+
+    private final List<OcrJob> waiting = new ArrayList<>();
+    private volatile Future<?> task;
+    private boolean running;
+    private boolean abandoned;
+
+    OcrFlight(String imageHash, OcrWorkspace workspace) {
+        this.imageHash = imageHash;
+        this.workspace = workspace;
+    }
+
+    void attach(Future<?> task) {
+        this.task = task;
+    }
+
+    /**
+     * 작업을 합류시키고 실행이 끝나면 같은 결과로 완료되도록 연결합니다.
+     * 기다리던 작업이 모두 떠나 이미 중단된 실행이면 false 를 반환합니다.
+     */
+    boolean join(OcrJob job) {
+        synchronized (this) {
+            if (abandoned) {
+                return false;
+            }
+            waiting.add(job);
+            job.attach(this);
+            if (running) {
+                job.markRunning();
+            }
+        }
+        result.whenComplete((value, error) -> {
+            if (error == null) {
+                job.complete(value);
+            } else if (error instanceof OcrProcessingException ocrException) {
+                job.fail(ocrException.getError(), ocrException.getDetails());
+            } else {
+                job.fail("OCR 처리 중 오류가 발생했습니다", String.valueOf(error.getMessage()));
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 작업이 결과 기다리기를 그만둡니다.
+     * 남은 작업이 없고 아직 끝나지 않았으면 실행을 중단하고 true 를 반환합니다.
+     */
+    boolean leave(OcrJob job, String details) {
+        synchronized (this) {
+            waiting.remove(job);
+            if (!waiting.isEmpty() || abandoned || result.isDone()) {
+                return false;
+            }
+            abandoned = true;
+        }
+        Future<?> current = task;
+        if (current != null) {
+            current.cancel(true);
+        }
+        // 대기열에서 취소되어 실행되지 않은 경우에도 후속 정리(permit 반환 등)가 이뤄지도록 완료 처리
+        fail("OCR 처리 실패", details);
+        return true;
+    }
+
+    void markRunning() {
+        List<OcrJob> targets;
+        synchronized (this) {
+            running = true;
+            targets = new ArrayList<>(waiting);
+        }
+        targets.forEach(OcrJob::markRunning);
+    }
+
+    void complete(Map<String, Object> value) {
+        result.complete(value);
+    }
+
+    void fail(String error, String details) {
+        result.completeExceptionally(new OcrProcessingException(error, details));
+    }
+}
@@ -0,0 +1,310 @@
+package com.vibe.yoriview.domain.ocr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OCR 전에 영수증 이미지를 정리합니다.
+ * EXIF 방향대로 세우고, 긴 변을 max-long-edge 이하로 줄이고, 흑백으로 바꿔 JPEG 로 다시 인코딩합니다.
+ * 디코딩은 CPU 를 많이 쓰므로 OCR 워커(대부분 네트워크 대기)와 별도의 스레드 풀에서 실행합니다.
+ */
+@Slf4j
+@Component
+public class OcrImageNormalizer {
+
+    private static final String TEMP_FILE_NAME = ".normalized.jpg";
+
+    @Value("${ocr.normalize.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ocr.normalize.max-long-edge:2048}")
+    private int maxLongEdge;
+
+    @Value("${ocr.normalize.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    @Value("${ocr.normalize.grayscale:true}")
+    private boolean grayscale;
+
+    // 0 이면 CPU 코어 수의 절반 (최소 1)
+    @Value("${ocr.normalize.threads:0}")
+    private int threads;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "ocr-normalize-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("OCR 이미지 전처리 초기화: enabled={}, maxLongEdge={}, quality={}, grayscale={}, threads={}",
+                enabled, maxLongEdge, jpegQuality, grayscale, poolSize);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 워크스페이스 이미지를 전처리 풀에서 정리하고 결과가 더 작거나 회전이 필요했을 때만 교체합니다.
+     * 읽을 수 없는 형식이면 원본을 그대로 OCR 에 넘깁니다.
+     */
+    public Result normalize(OcrWorkspace workspace) throws InterruptedException {
+        Path source = workspace.getImageFile();
+        Path target = workspace.getInputDir().resolve(TEMP_FILE_NAME);
+        Result result = normalizeOnPool(source, target);
+        if (result.isApplied()) {
+            try {
+                workspace.replaceImage(target, "jpg");
+            } catch (IOException e) {
+                log.warn("전처리 이미지 교체 실패, 원본 사용: jobId={}, {}", workspace.getJobId(), e.getMessage());
+                deleteQuietly(target);
+                return Result.skipped(sizeOf(source));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 저장할 영수증 이미지를 OCR 과 같은 방식으로 정리해 target 에 씁니다. (ReceiptImageStore 에서 사용)
+     * 결과가 더 작거나 회전이 필요했을 때만 true 이며, false 면 target 은 만들어지지 않으므로 원본을 저장하면 됩니다.
+     */
+    public boolean normalizeFile(Path source, Path target) {
+        try {
+            return normalizeOnPool(source, target).isApplied();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 전처리 풀에서 실행하고, 적용하지 않거나 실패하면 target 을 지움
+    private Result normalizeOnPool(Path source, Path target) throws InterruptedException {
+        Future<Result> future = executor.submit(() -> normalize(source, target));
+        try {
+            Result result = future.get();
+            if (!result.isApplied()) {
+                deleteQuietly(target);
+            }
+            return result;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            deleteQuietly(target);
+            throw e;
+        } catch (ExecutionException e) {
+            log.warn("이미지 전처리 실패, 원본 사용: {} - {}", source.getFileName(), e.getCause().getMessage());
+            deleteQuietly(target);
+            return Result.skipped(sizeOf(source));
+        }
+    }
+
+    /**
+     * source 를 읽어 정리한 JPEG 를 target 에 씁니다. (호출한 스레드에서 실행)
+     */
+    Result normalize(Path source, Path target) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long originalBytes = Files.size(source);
+        int orientation = ExifOrientation.read(source);
+
+        BufferedImage decoded = decode(source);
+        if (decoded == null) {
+            return Result.skipped(originalBytes);
+        }
+
+        BufferedImage normalized = transform(decoded, orientation);
+        encode(normalized, target);
+
+        long normalizedBytes = Files.size(target);
+        long elapsed = System.currentTimeMillis() - startedAt;
+        // 다시 인코딩해도 줄어들지 않는(이미 작은) 이미지는 원본 유지. 단, 회전이 필요했다면 항상 교체
+        boolean applied = normalizedBytes < originalBytes || orientation != ExifOrientation.NORMAL;
+        return new Result(applied, originalBytes, applied ? normalizedBytes : originalBytes,
+                normalized.getWidth(), normalized.getHeight(), elapsed);
+    }
+
+    // 긴 변이 목표의 2배 이상이면 디코딩 단계에서 서브샘플링해 메모리와 시간을 줄임
+    private BufferedImage decode(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, longEdge / maxLongEdge);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 방향 보정 + 축소 + 흑백 변환을 한 번의 그리기로 처리
+    private BufferedImage transform(BufferedImage source, int orientation) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxLongEdge / Math.max(width, height));
+        int scaledWidth = Math.max(1, (int) Math.round(width * scale));
+        int scaledHeight = Math.max(1, (int) Math.round(height * scale));
+
+        boolean swapsAxes = orientation >= 5;
+        int targetWidth = swapsAxes ? scaledHeight : scaledWidth;
+        int targetHeight = swapsAxes ? scaledWidth : scaledHeight;
+
+        AffineTransform transform = orientationTransform(orientation, scaledWidth, scaledHeight);
+        transform.scale((double) scaledWidth / width, (double) scaledHeight / height);
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight,
+                grayscale ? BufferedImage.TYPE_BYTE_GRAY : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // EXIF 방향(1~8)을 정방향으로 되돌리는 변환 (width/height 는 회전 전 크기)
+    static AffineTransform orientationTransform(int orientation, int width, int height) {
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { // 좌우 반전
+                transform.translate(width, 0);
+                transform.scale(-1, 1);
+            }
+            case 3 -> { // 180도
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 4 -> { // 상하 반전
+                transform.translate(0, height);
+                transform.scale(1, -1);
+            }
+            case 5 -> { // 대각선 반전 (transpose)
+                transform.rotate(Math.PI / 2);
+                transform.scale(1, -1);
+            }
+            case 6 -> { // 시계 방향 90도
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 7 -> { // 반대 대각선 반전 (transverse)
+                transform.translate(height, width);
+                transform.rotate(Math.PI / 2);
+                transform.scale(-1, 1);
+            }
+            case 8 -> { // 반시계 방향 90도
+                transform.translate(0, width);
+                transform.rotate(-Math.PI / 2);
+            }
+            default -> {
+            }
+        }
+        return transform;
+    }
+
+    private void encode(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+        param.setProgressiveMode(ImageWriteParam.MODE_DISABLED);
+
+        Files.deleteIfExists(target);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("전처리 임시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 전처리 결과. applied 가 false 면 원본을 그대로 사용합니다.
+     */
+    @Getter
+    public static class Result {
+        private final boolean applied;
+        private final long originalBytes;
+        private final long normalizedBytes;
+        private final int width;
+        private final int height;
+        private final long elapsedMillis;
+
+        Result(boolean applied, long originalBytes, long normalizedBytes, int width, int height, long elapsedMillis) {
+            this.applied = applied;
+            this.originalBytes = originalBytes;
+            this.normalizedBytes = normalizedBytes;
+            this.width = width;
+            this.height = height;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        static Result skipped(long originalBytes) {
+            return new Result(false, originalBytes, originalBytes, 0, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.vibe.yoriview.domain.ocr;
+
+/**
+ * 업로드 이미지가 허용 크기(8MB)를 넘었을 때 발생합니다. 컨트롤러에서 400 응답으로 변환됩니다.
+ */
+public class OcrImageTooLargeException extends OcrProcessingException {
+
+    public OcrImageTooLargeException() {
+        super("파일 크기 초과", "8MB 이하의 파일만 업로드 가능합니다.");
+    }
+}
@@ -0,0 +1,145 @@
+package com.vibe.yoriview.domain.ocr;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 OCR 작업의 상태.
+ * 상태가 바뀔 때마다 구독 중인 SSE 클라이언트에게 현재 상태를 전송합니다.
+ */
+@Slf4j
+@Getter
+public class OcrJob {
+
+    private final String jobId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final CompletableFuture<Map<String, Object>> completion = new CompletableFuture<>();
+
+    private volatile OcrJobStatus status = OcrJobStatus.QUEUED;
+    private volatile Map<String, Object> result;
+    private volatile String error;
+    private volatile String details;
+    private volatile LocalDateTime finishedAt;
+
+    @Getter(AccessLevel.NONE)
+    private final List<SseEmitter> emitters = new ArrayList<>();
+
+    // 결과를 기다리고 있는 실제 OCR 실행 (캐시 적중/수동 입력 응답이면 null)
+    @Getter(AccessLevel.PACKAGE)
+    private volatile OcrFlight flight;
+
+    public OcrJob(String jobId) {
+        this.jobId = jobId;
+    }
+
+    void attach(OcrFlight flight) {
+        this.flight = flight;
+    }
+
+    synchronized void markRunning() {
+        if (status.isFinished()) {
+            return;
+        }
+        status = OcrJobStatus.RUNNING;
+        publish();
+    }
+
+    synchronized void complete(Map<String, Object> result) {
+        if (status.isFinished()) {
+            return;
+        }
+        this.result = result;
+        this.status = OcrJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+        publish();
+        completion.complete(result);
+    }
+
+    synchronized void fail(String error, String details) {
+        if (status.isFinished()) {
+            return;
+        }
+        this.error = error;
+        this.details = details;
+        this.status = OcrJobStatus.FAILED;
+        this.finishedAt = LocalDateTime.now();
+        publish();
+        completion.completeExceptionally(new OcrProcessingException(error, details));
+    }
+
+    /**
+     * SSE 구독을 등록하고 현재 상태를 즉시 전송합니다.
+     * 이미 끝난 작업이면 결과를 보내고 바로 스트림을 닫습니다.
+     */
+    synchronized void subscribe(SseEmitter emitter) {
+        if (!send(emitter)) {
+            return;
+        }
+        if (status.isFinished()) {
+            emitter.complete();
+            return;
+        }
+        emitters.add(emitter);
+        emitter.onCompletion(() -> removeEmitter(emitter));
+        emitter.onTimeout(() -> removeEmitter(emitter));
+    }
+
+    private synchronized void removeEmitter(SseEmitter emitter) {
+        emitters.remove(emitter);
+    }
+
+    private void publish() {
+        List<SseEmitter> targets = new ArrayList<>(emitters);
+        for (SseEmitter emitter : targets) {
+            if (!send(emitter)) {
+                emitters.remove(emitter);
+            } else if (status.isFinished()) {
+                emitter.complete();
+            }
+        }
+        if (status.isFinished()) {
+            emitters.clear();
+        }
+    }
+
+    private boolean send(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(status.name().toLowerCase())
+                    .data(toResponse()));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패: jobId={}, {}", jobId, e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    public Map<String, Object> toResponse() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("jobId", jobId);
+        response.put("status", status);
+        response.put("createdAt", createdAt);
+        if (status == OcrJobStatus.COMPLETED) {
+            response.put("result", result);
+        }
+        if (status == OcrJobStatus.FAILED) {
+            response.put("error", error);
+            response.put("details", details);
+        }
+        if (finishedAt != null) {
+            response.put("finishedAt", finishedAt);
+        }
+        return response;
+    }
+}
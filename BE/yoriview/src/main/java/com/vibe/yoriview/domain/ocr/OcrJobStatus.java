@@ -0,0 +1,12 @@
+package com.vibe.yoriview.domain.ocr;
+
+public enum OcrJobStatus {
+    QUEUED,     // 워커 풀 대기열에 등록됨
+    RUNNING,    // OCR 처리 중
+    COMPLETED,  // 처리 완료 (result 사용 가능)
+    FAILED;     // 처리 실패 (error, details 사용 가능)
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,32 @@
+package com.vibe.yoriview.domain.ocr;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OCR 파이프라인 단계별 처리 시간 통계.
+ * upload / queue / engine / cleanup / total 은 Java 쪽에서, clova / gemini 등은 엔진이 보고한 값으로 기록합니다.
+ */
+@Component
+public class OcrMetrics {
+
+    private final Map<String, LatencyHistogram> stages = new ConcurrentHashMap<>();
+
+    public void record(String stage, long millis) {
+        stages.computeIfAbsent(stage, key -> new LatencyHistogram()).record(millis);
+    }
+
+    public void recordAll(Map<String, Long> timings) {
+        timings.forEach(this::record);
+    }
+
+    public Map<String, Object> getSnapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        new TreeMap<>(stages).forEach((stage, histogram) -> snapshot.put(stage, histogram.snapshot()));
+        return snapshot;
+    }
+}
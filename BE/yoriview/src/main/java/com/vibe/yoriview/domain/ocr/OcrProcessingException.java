@@ -0,0 +1,20 @@
+package com.vibe.yoriview.domain.ocr;
+
+import lombok.Getter;
+
+/**
+ * OCR 파이프라인 처리 중 발생한 오류.
+ * 컨트롤러에서 error / details 형태의 응답으로 변환됩니다.
+ */
+@Getter
+public class OcrProcessingException extends RuntimeException {
+
+    private final String error;
+    private final String details;
+
+    public OcrProcessingException(String error, String details) {
+        super(error + ": " + details);
+        this.error = error;
+        this.details = details;
+    }
+}
@@ -0,0 +1,18 @@
+package com.vibe.yoriview.domain.ocr;
+
+import lombok.Getter;
+
+/**
+ * OCR 처리 대기열이 가득 차 요청을 받지 않을 때 발생합니다.
+ * 컨트롤러에서 Retry-After 헤더를 포함한 429 응답으로 변환됩니다.
+ */
+@Getter
+public class OcrRejectedException extends OcrProcessingException {
+
+    private final long retryAfterSeconds;
+
+    public OcrRejectedException(String details, long retryAfterSeconds) {
+        super("OCR 요청이 너무 많습니다", details);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
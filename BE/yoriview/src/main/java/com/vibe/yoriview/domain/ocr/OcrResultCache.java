@@ -0,0 +1,193 @@
+package com.vibe.yoriview.domain.ocr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 내용(SHA-256) 기준 OCR 결과 캐시.
+ * 같은 영수증 사진을 다시 올리면 CLOVA OCR + Gemini 호출 없이 이전 결과를 돌려줍니다.
+ * 메모리 계층(LRU, 개수 제한)과 재시작 후에도 유지되는 디스크 계층(선택)으로 구성됩니다.
+ */
+@Slf4j
+@Component
+public class OcrResultCache {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${ocr.cache.max-entries:1000}")
+    private int maxEntries;
+
+    // 비어 있으면 디스크 계층을 사용하지 않음
+    @Value("${ocr.cache.dir:}")
+    private String cacheDir;
+
+    @Value("${ocr.cache.disk-max-entries:20000}")
+    private int diskMaxEntries;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong diskEvictions = new AtomicLong();
+    private final AtomicInteger diskEntries = new AtomicInteger();
+
+    private Map<String, Map<String, Object>> memory;
+    private Path diskRoot;
+
+    @PostConstruct
+    void init() {
+        memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
+                if (size() > maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        if (cacheDir != null && !cacheDir.isBlank()) {
+            Path root = Paths.get(cacheDir);
+            try {
+                Files.createDirectories(root);
+                try (Stream<Path> files = Files.walk(root)) {
+                    diskEntries.set((int) files.filter(path -> path.toString().endsWith(".json")).count());
+                }
+                diskRoot = root;
+            } catch (IOException e) {
+                log.warn("OCR 캐시 디렉토리를 사용할 수 없어 메모리 캐시만 사용합니다: {} - {}", root, e.getMessage());
+            }
+        }
+        log.info("OCR 결과 캐시 초기화: maxEntries={}, diskDir={}, diskEntries={}", maxEntries, diskRoot, diskEntries.get());
+    }
+
+    public Optional<Map<String, Object>> get(String imageHash) {
+        if (imageHash == null) {
+            return Optional.empty();
+        }
+
+        Map<String, Object> cached;
+        synchronized (memory) {
+            cached = memory.get(imageHash);
+        }
+        if (cached != null) {
+            memoryHits.incrementAndGet();
+            return Optional.of(cached);
+        }
+
+        cached = readFromDisk(imageHash);
+        if (cached != null) {
+            diskHits.incrementAndGet();
+            synchronized (memory) {
+                memory.put(imageHash, cached);
+            }
+            return Optional.of(cached);
+        }
+
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    public void put(String imageHash, Map<String, Object> result) {
+        if (imageHash == null) {
+            return;
+        }
+        Map<String, Object> value = Collections.unmodifiableMap(new HashMap<>(result));
+        synchronized (memory) {
+            memory.put(imageHash, value);
+        }
+        writeToDisk(imageHash, value);
+    }
+
+    public Map<String, Object> getStats() {
+        long hits = memoryHits.get() + diskHits.get();
+        long total = hits + misses.get();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (memory) {
+            stats.put("memoryEntries", memory.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("diskEnabled", diskRoot != null);
+        stats.put("diskEntries", diskEntries.get());
+        stats.put("hits", hits);
+        stats.put("memoryHits", memoryHits.get());
+        stats.put("diskHits", diskHits.get());
+        stats.put("misses", misses.get());
+        stats.put("evictions", evictions.get());
+        stats.put("diskEvictions", diskEvictions.get());
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hits / total);
+        return stats;
+    }
+
+    // 한 디렉토리에 파일이 몰리지 않도록 해시 앞 2글자로 하위 디렉토리를 나눔
+    private Path diskPath(String imageHash) {
+        return diskRoot.resolve(imageHash.substring(0, 2)).resolve(imageHash + ".json");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readFromDisk(String imageHash) {
+        if (diskRoot == null) {
+            return null;
+        }
+        Path path = diskPath(imageHash);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            return Collections.unmodifiableMap(objectMapper.readValue(path.toFile(), Map.class));
+        } catch (IOException e) {
+            log.warn("OCR 캐시 파일 읽기 실패: {} - {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(String imageHash, Map<String, Object> value) {
+        if (diskRoot == null) {
+            return;
+        }
+        Path path = diskPath(imageHash);
+        try {
+            Files.createDirectories(path.getParent());
+            boolean existed = Files.exists(path);
+            // 임시 파일에 쓴 뒤 원자적으로 교체하여 읽는 쪽이 반쯤 쓰인 파일을 보지 않도록 함
+            Path temp = Files.createTempFile(path.getParent(), imageHash, ".tmp");
+            objectMapper.writeValue(temp.toFile(), value);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (!existed && diskEntries.incrementAndGet() > diskMaxEntries) {
+                trimDisk();
+            }
+        } catch (IOException e) {
+            log.warn("OCR 캐시 파일 저장 실패: {} - {}", path, e.getMessage());
+        }
+    }
+
+    // 디스크 계층이 한도를 넘으면 오래된 파일부터 10% 정리
+    private synchronized void trimDisk() {
+        int target = diskMaxEntries - diskMaxEntries / 10;
+        try (Stream<Path> files = Files.walk(diskRoot)) {
+            List<Path> sorted = files.filter(path -> path.toString().endsWith(".json"))
+                    .sorted(Comparator.comparingLong(path -> path.toFile().lastModified()))
+                    .toList();
+            int toDelete = sorted.size() - target;
+            for (int i = 0; i < toDelete; i++) {
+                Files.deleteIfExists(sorted.get(i));
+                diskEvictions.incrementAndGet();
+            }
+            diskEntries.set(Math.min(sorted.size(), target));
+        } catch (IOException e) {
+            log.warn("OCR 캐시 디스크 정리 실패: {}", e.getMessage());
+        }
+    }
+}
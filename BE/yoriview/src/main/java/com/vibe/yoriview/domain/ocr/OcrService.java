@@ -0,0 +1,587 @@
+package com.vibe.yoriview.domain.ocr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OCR 실행 엔진.
+ * 요청마다 jobId 와 전용 워크스페이스를 만들고, 코어 수만큼의 워커 스레드 풀에서 처리합니다.
+ * 동기 모드(process)와 작업 ID 를 바로 돌려주는 비동기 모드(submit)를 모두 지원합니다.
+ * 같은 이미지(내용 해시)가 처리 중일 때 들어온 요청은 새로 OCR 을 실행하지 않고 진행 중인 작업의 결과를 함께 받습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OcrService {
+
+    private final List<OcrEngine> engines;
+    private final OcrResultCache resultCache;
+    private final OcrMetrics metrics;
+    private final OcrImageNormalizer normalizer;
+    private final ReceiptTextParser textParser;
+
+    // 사용할 OCR 엔진 (python: ocr-parser.py, http: Java HttpClient 로 CLOVA / Gemini 직접 호출)
+    @Value("${ocr.engine:python}")
+    private String engineName;
+
+    @Value("${ocr.base-path:/app/ocr}")
+    private String ocrBasePath;
+
+    @Value("${ocr.worker-threads:0}")
+    private int workerThreads;
+
+    @Value("${ocr.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${ocr.job-timeout-seconds:40}")
+    private long jobTimeoutSeconds;
+
+    @Value("${ocr.job-retention-minutes:10}")
+    private long jobRetentionMinutes;
+
+    @Value("${ocr.sse-timeout-seconds:60}")
+    private long sseTimeoutSeconds;
+
+    // 실행 중 + 대기 중인 작업 수 한도 (0 이면 워커 스레드 수의 3배, 최대 워커 수 + 대기열 크기)
+    @Value("${ocr.admission.max-in-flight:0}")
+    private int maxInFlight;
+
+    // 사용자(로그인 시) 또는 IP 별 동시 처리 한도
+    @Value("${ocr.admission.max-per-client:2}")
+    private int maxPerClient;
+
+    // 일괄 처리 한 번에 받을 수 있는 이미지 수 / 동시에 처리할 이미지 수 (0 이면 워커 스레드 수)
+    @Value("${ocr.batch.max-items:50}")
+    private int batchMaxItems;
+
+    @Value("${ocr.batch.max-parallel:0}")
+    private int batchMaxParallel;
+
+    // 규칙 기반 파서의 신뢰도가 이 값 이상이면 AI(Gemini) 파싱을 생략
+    @Value("${ocr.parser.fast-path-enabled:true}")
+    private boolean parserFastPathEnabled;
+
+    @Value("${ocr.parser.min-confidence:0.8}")
+    private double parserMinConfidence;
+
+    // 외부 OCR 서킷 브레이커 (ocr.circuit.* 설명은 application.properties 참고)
+    @Value("${ocr.circuit.enabled:true}")
+    private boolean circuitEnabled;
+
+    @Value("${ocr.circuit.window-seconds:60}")
+    private long circuitWindowSeconds;
+
+    @Value("${ocr.circuit.minimum-calls:5}")
+    private int circuitMinimumCalls;
+
+    @Value("${ocr.circuit.failure-rate-threshold:0.5}")
+    private double circuitFailureRateThreshold;
+
+    @Value("${ocr.circuit.slow-call-millis:15000}")
+    private long circuitSlowCallMillis;
+
+    @Value("${ocr.circuit.slow-call-rate-threshold:0.8}")
+    private double circuitSlowCallRateThreshold;
+
+    @Value("${ocr.circuit.open-seconds:30}")
+    private long circuitOpenSeconds;
+
+    @Value("${ocr.circuit.half-open-probes:1}")
+    private int circuitHalfOpenProbes;
+
+    private final Map<String, OcrJob> jobs = new ConcurrentHashMap<>();
+
+    // 이미지 해시별로 현재 실행 중인 OCR. 같은 이미지가 동시에 들어오면 이 실행의 결과를 함께 받음
+    private final Map<String, OcrFlight> inFlightByHash = new ConcurrentHashMap<>();
+
+    private OcrEngine engine;
+    private Path jobsDir;
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService scheduler;
+    private OcrAdmissionControl admission;
+    private OcrCircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    void init() {
+        engine = engines.stream()
+                .filter(candidate -> candidate.getName().equals(engineName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 OCR 엔진: " + engineName));
+
+        jobsDir = Paths.get(ocrBasePath, "jobs");
+        // 비정상 종료로 남아 있는 이전 워크스페이스 정리
+        OcrWorkspace.deleteRecursively(jobsDir);
+        try {
+            Files.createDirectories(jobsDir);
+        } catch (IOException e) {
+            // 워크스페이스 생성 시 다시 시도하므로 기동은 계속함
+            log.warn("OCR 작업 디렉토리 생성 실패: {} - {}", jobsDir, e.getMessage());
+        }
+
+        int threads = workerThreads > 0 ? workerThreads : Runtime.getRuntime().availableProcessors();
+        // 엔진이 동시에 처리할 수 있는 수(Python 워커 수 등)를 넘는 스레드는 엔진을 기다리다 실패하므로 맞춰 줄임
+        int engineLimit = engine.maxConcurrency();
+        if (engineLimit > 0 && threads > engineLimit) {
+            log.info("OCR 워커 스레드 수를 엔진 동시 처리 한도에 맞춤: {} -> {}", threads, engineLimit);
+            threads = engineLimit;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ocr-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ocr-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        admission = new OcrAdmissionControl(inFlightLimit(), maxPerClient, threads,
+                TimeUnit.SECONDS.toMillis(jobTimeoutSeconds) / 4);
+        circuitBreaker = new OcrCircuitBreaker(circuitEnabled, TimeUnit.SECONDS.toMillis(circuitWindowSeconds),
+                circuitMinimumCalls, circuitFailureRateThreshold, circuitSlowCallMillis, circuitSlowCallRateThreshold,
+                TimeUnit.SECONDS.toMillis(circuitOpenSeconds), circuitHalfOpenProbes);
+        log.info("OCR 워커 풀 초기화: engine={}, threads={}, queueCapacity={}, maxInFlight={}, maxPerClient={}, jobsDir={}",
+                engine.getName(), threads, queueCapacity, inFlightLimit(), maxPerClient, jobsDir);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private int inFlightLimit() {
+        int threads = executor.getCorePoolSize();
+        int limit = maxInFlight > 0 ? maxInFlight : threads * 3;
+        return Math.min(limit, threads + queueCapacity);
+    }
+
+    /**
+     * 작업을 등록하고 결과가 나올 때까지 기다립니다. (동기 모드)
+     * clientKey 는 동시 처리 한도를 적용할 사용자 또는 IP 입니다.
+     */
+    public Map<String, Object> process(MultipartFile file, String clientKey) {
+        return await(submit(file, clientKey));
+    }
+
+    /**
+     * 요청 본문으로 받은 이미지 스트림을 처리하고 결과를 기다립니다. (동기 모드)
+     */
+    public Map<String, Object> process(InputStream body, String extension, String clientKey) {
+        return await(submit(body, extension, clientKey));
+    }
+
+    /**
+     * 이미지를 작업 워크스페이스에 저장하고 워커 풀에 작업을 등록한 뒤 바로 반환합니다. (비동기 모드)
+     * 업로드 임시 파일은 요청이 끝나면 사라지므로 저장까지는 요청 스레드에서 처리합니다.
+     * 처리 한도를 넘으면 이미지를 저장하기 전에 OcrRejectedException 으로 거절합니다.
+     */
+    public OcrJob submit(MultipartFile file, String clientKey) {
+        return submit(clientKey, workspace -> workspace.saveImage(file));
+    }
+
+    public OcrJob submit(InputStream body, String extension, String clientKey) {
+        return submit(clientKey, workspace -> workspace.saveImage(body, extension));
+    }
+
+    public Map<String, Object> getAdmissionStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(admission.getStats());
+        stats.put("circuitBreaker", circuitBreaker.getStats());
+        return stats;
+    }
+
+    private Map<String, Object> await(OcrJob job) {
+        try {
+            return job.getCompletion().get(jobTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.error("OCR 처리 시간 초과: jobId={}", job.getJobId());
+            cancel(job, "OCR 처리 시간이 초과되었습니다");
+            throw new OcrProcessingException("OCR 처리 실패", "OCR 처리 시간이 초과되었습니다");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(job, "OCR 처리가 중단되었습니다");
+            throw new OcrProcessingException("OCR 처리 실패", "OCR 처리가 중단되었습니다");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof OcrProcessingException ocrException) {
+                throw ocrException;
+            }
+            log.error("OCR 처리 중 오류 발생: jobId={}", job.getJobId(), e.getCause());
+            throw new OcrProcessingException("OCR 처리 중 오류가 발생했습니다", String.valueOf(e.getCause().getMessage()));
+        } finally {
+            // 동기 요청의 결과는 응답으로 바로 전달되므로 보관하지 않음
+            jobs.remove(job.getJobId());
+        }
+    }
+
+    private OcrJob submit(String clientKey, ImageWriter imageWriter) {
+        evictExpiredJobs();
+
+        // 본문을 읽기 전에 입장 여부를 먼저 결정해 과부하 시 바로 429 로 응답
+        OcrAdmissionControl.Permit permit = admission.acquire(clientKey);
+
+        long submittedAt = System.currentTimeMillis();
+        OcrWorkspace workspace;
+        try {
+            workspace = stage(imageWriter);
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+        return start(workspace, permit, submittedAt);
+    }
+
+    /**
+     * 여러 이미지를 한 번에 처리합니다. (일괄 모드)
+     * 이미지는 요청 스레드에서 모두 워크스페이스에 저장하고, 처리는 워커 풀에 나눠 병렬로 진행하며
+     * 이미지마다 끝나는 대로 listener 로 결과를 전달합니다. 일괄 처리 전체는 클라이언트의 요청 하나로 계산됩니다.
+     */
+    public OcrBatch processBatch(List<MultipartFile> files, String clientKey, OcrBatchListener listener) {
+        if (files.size() > batchMaxItems) {
+            throw new OcrBatchTooLargeException(batchMaxItems);
+        }
+        evictExpiredJobs();
+
+        OcrAdmissionControl.Permit session = admission.acquireSession(clientKey);
+        List<OcrBatch.Item> items = new ArrayList<>();
+        try {
+            for (int index = 0; index < files.size(); index++) {
+                MultipartFile file = files.get(index);
+                try {
+                    if (file.getSize() > OcrWorkspace.MAX_IMAGE_BYTES) {
+                        throw new OcrImageTooLargeException();
+                    }
+                    items.add(OcrBatch.Item.staged(index, file.getOriginalFilename(),
+                            stage(workspace -> workspace.saveImage(file))));
+                } catch (OcrProcessingException e) {
+                    items.add(OcrBatch.Item.failed(index, file.getOriginalFilename(), e.getError(), e.getDetails()));
+                }
+            }
+        } catch (RuntimeException e) {
+            items.forEach(OcrBatch.Item::discard);
+            session.release();
+            throw e;
+        }
+
+        int parallelism = Math.min(batchMaxParallel > 0 ? batchMaxParallel : executor.getCorePoolSize(), inFlightLimit());
+        log.info("OCR 일괄 처리 시작: client={}, items={}, parallelism={}", clientKey, items.size(), parallelism);
+        OcrBatch batch = new OcrBatch(this, items, parallelism, session, listener);
+        batch.pump();
+        return batch;
+    }
+
+    // 새 워크스페이스를 만들고 이미지를 저장
+    private OcrWorkspace stage(ImageWriter imageWriter) {
+        String jobId = UUID.randomUUID().toString();
+        long startedAt = System.currentTimeMillis();
+        OcrWorkspace workspace = null;
+        try {
+            workspace = OcrWorkspace.create(jobsDir, jobId);
+            Path savedFilePath = imageWriter.write(workspace);
+            metrics.record("upload", System.currentTimeMillis() - startedAt);
+            log.info("이미지 파일 저장됨: jobId={}, path={}", jobId, savedFilePath);
+            return workspace;
+        } catch (IOException e) {
+            log.error("OCR 워크스페이스 준비 실패: jobId={}", jobId, e);
+            if (workspace != null) {
+                workspace.close();
+            }
+            throw new OcrProcessingException("OCR 처리 중 오류가 발생했습니다", e.getMessage());
+        } catch (RuntimeException e) {
+            if (workspace != null) {
+                workspace.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 저장된 워크스페이스로 작업을 만들어 워커 풀에 등록합니다.
+     * permit 은 실제 OCR 실행이 끝나면(등록 실패, 취소 포함) 반환됩니다.
+     */
+    OcrJob start(OcrWorkspace workspace, OcrAdmissionControl.Permit permit, long submittedAt) {
+        String jobId = workspace.getJobId();
+        OcrJob job = new OcrJob(jobId);
+        jobs.put(jobId, job);
+
+        // 같은 이미지를 이미 처리한 적이 있으면 OCR 없이 바로 완료
+        Optional<Map<String, Object>> cached = resultCache.get(workspace.getImageHash());
+        if (cached.isPresent()) {
+            log.info("OCR 캐시 적중: jobId={}, imageHash={}", jobId, workspace.getImageHash());
+            workspace.close();
+            permit.release();
+            job.complete(cached.get());
+            metrics.record("total.cached", System.currentTimeMillis() - submittedAt);
+            return job;
+        }
+
+        // 외부 OCR 장애로 서킷이 열려 있으면 대기열에 넣지 않고 바로 수동 입력 응답
+        if (circuitBreaker.isOpen()) {
+            log.info("OCR 서킷 open, 수동 입력 응답: jobId={}", jobId);
+            workspace.close();
+            permit.release();
+            job.complete(manualEntryResult());
+            metrics.record("total.degraded", System.currentTimeMillis() - submittedAt);
+            return job;
+        }
+
+        // 같은 이미지를 처리 중인 OCR 이 있으면 새로 실행하지 않고 그 결과를 함께 받음
+        String imageHash = workspace.getImageHash();
+        OcrFlight flight = new OcrFlight(imageHash, workspace);
+        while (true) {
+            OcrFlight running = inFlightByHash.putIfAbsent(imageHash, flight);
+            if (running == null) {
+                break;
+            }
+            if (running.join(job)) {
+                follow(running, job, workspace, permit, submittedAt);
+                return job;
+            }
+            // 기다리던 작업이 모두 취소되어 중단된 실행이면 새로 시작
+            inFlightByHash.remove(imageHash, running);
+        }
+        flight.join(job);
+        // 완료/실패/취소 어느 경로로 끝나든 슬롯 반환
+        flight.getResult().whenComplete((result, error) -> {
+            inFlightByHash.remove(imageHash, flight);
+            permit.release();
+        });
+
+        try {
+            flight.attach(executor.submit(() -> execute(flight, submittedAt)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(jobId);
+            workspace.close();
+            // 그 사이 합류한 요청도 함께 실패 처리
+            flight.fail("OCR 처리 실패", "잠시 후 다시 시도해주세요.");
+            throw new OcrRejectedException("잠시 후 다시 시도해주세요.", 1);
+        }
+        return job;
+    }
+
+    /**
+     * 진행 중인 OCR 에 합류합니다. 합류한 요청은 워커도 처리 슬롯도 쓰지 않으므로
+     * 워크스페이스와 permit 을 바로 반환하고, 실행이 끝나면 같은 결과로 완료됩니다.
+     */
+    private void follow(OcrFlight flight, OcrJob job, OcrWorkspace workspace,
+                        OcrAdmissionControl.Permit permit, long submittedAt) {
+        log.info("진행 중인 OCR 작업에 합류: jobId={}, leaderJobId={}, imageHash={}",
+                job.getJobId(), flight.getWorkspace().getJobId(), workspace.getImageHash());
+        workspace.close();
+        permit.release();
+        job.getCompletion().whenComplete((result, error) ->
+                metrics.record("total.coalesced", System.currentTimeMillis() - submittedAt));
+    }
+
+    OcrAdmissionControl.Permit tryAcquireSlot() {
+        return admission.tryAcquireSlot();
+    }
+
+    // 일괄 처리 작업의 시간 제한 (동기 모드의 대기 시간 제한과 같음)
+    void scheduleTimeout(OcrJob job) {
+        scheduler.schedule(() -> {
+            if (!job.getStatus().isFinished()) {
+                log.error("OCR 처리 시간 초과: jobId={}", job.getJobId());
+                cancel(job, "OCR 처리 시간이 초과되었습니다");
+            }
+        }, jobTimeoutSeconds, TimeUnit.SECONDS);
+    }
+
+    void schedule(Runnable task, long delayMillis) {
+        scheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public Optional<OcrJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * 작업 상태 변경을 SSE 로 구독합니다.
+     */
+    public SseEmitter subscribe(OcrJob job) {
+        SseEmitter emitter = new SseEmitter(TimeUnit.SECONDS.toMillis(sseTimeoutSeconds));
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    private void execute(OcrFlight flight, long submittedAt) {
+        OcrWorkspace workspace = flight.getWorkspace();
+        long startedAt = System.currentTimeMillis();
+        metrics.record("queue", startedAt - submittedAt);
+        try {
+            flight.markRunning();
+            normalize(workspace);
+            Map<String, Object> result = runJob(workspace);
+            admission.recordDuration(System.currentTimeMillis() - startedAt);
+            if (isCacheable(result)) {
+                resultCache.put(workspace.getImageHash(), result);
+            }
+            flight.complete(result);
+        } catch (OcrProcessingException e) {
+            flight.fail(e.getError(), e.getDetails());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flight.fail("OCR 처리 실패", "OCR 처리가 중단되었습니다");
+        } catch (Exception e) {
+            log.error("OCR 처리 중 오류 발생: jobId={}", workspace.getJobId(), e);
+            flight.fail("OCR 처리 중 오류가 발생했습니다", e.getMessage());
+        } finally {
+            long cleanupStartedAt = System.currentTimeMillis();
+            workspace.close();
+            long finishedAt = System.currentTimeMillis();
+            metrics.record("cleanup", finishedAt - cleanupStartedAt);
+            metrics.record("total", finishedAt - submittedAt);
+        }
+    }
+
+    // 업로드 이미지를 워크스페이스에 기록하는 방식 (multipart / 요청 본문 스트림)
+    @FunctionalInterface
+    private interface ImageWriter {
+        Path write(OcrWorkspace workspace) throws IOException;
+    }
+
+    // AI 파싱이 실패해 상호명이 비어 있는 결과와 수동 입력 응답은 다시 시도할 수 있도록 캐시하지 않음
+    private boolean isCacheable(Map<String, Object> result) {
+        return result.get("restaurantName") != null && !result.containsKey("manualEntry");
+    }
+
+    /**
+     * 요청 하나를 실패 처리합니다. 같은 이미지의 결과를 기다리는 다른 요청이 있으면 OCR 은 계속 실행하고,
+     * 기다리는 요청이 더 없을 때만 실행을 중단합니다.
+     */
+    void cancel(OcrJob job, String details) {
+        job.fail("OCR 처리 실패", details);
+        OcrFlight flight = job.getFlight();
+        if (flight != null && flight.leave(job, details)) {
+            // 대기열에서 취소되어 한 번도 실행되지 않은 작업의 워크스페이스도 정리
+            flight.getWorkspace().close();
+        }
+    }
+
+    // 보관 기간이 지난 완료 작업 정리
+    private void evictExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+    }
+
+    // 방향 보정/축소/흑백 변환으로 업로드 크기와 OCR API 전송량을 줄임 (캐시 키는 원본 해시 그대로)
+    private void normalize(OcrWorkspace workspace) throws InterruptedException {
+        if (!normalizer.isEnabled()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        OcrImageNormalizer.Result result = normalizer.normalize(workspace);
+        metrics.record("normalize", System.currentTimeMillis() - startedAt);
+        if (result.isApplied()) {
+            log.info("OCR 이미지 전처리 완료: jobId={}, {}x{}, {}KB -> {}KB, {}ms", workspace.getJobId(),
+                    result.getWidth(), result.getHeight(), result.getOriginalBytes() / 1024,
+                    result.getNormalizedBytes() / 1024, result.getElapsedMillis());
+        }
+    }
+
+    private Map<String, Object> runJob(OcrWorkspace workspace) {
+        if (!circuitBreaker.tryAcquire()) {
+            log.info("OCR 서킷 open, 수동 입력 응답: jobId={}", workspace.getJobId());
+            return manualEntryResult();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        OcrEngineResult result;
+        try {
+            result = parserFastPathEnabled ? recognizeWithFastPath(workspace) : engine.recognize(workspace);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure(System.currentTimeMillis() - startedAt);
+            throw e;
+        }
+        long engineMillis = System.currentTimeMillis() - startedAt;
+        // AI 파싱 실패는 빈 결과로 응답하지만 외부 단계 장애이므로 서킷 브레이커에는 실패로 기록
+        if (result.getFailedStage() != null) {
+            log.warn("OCR 외부 단계 실패, 빈 결과로 응답: jobId={}, stage={}", workspace.getJobId(), result.getFailedStage());
+            circuitBreaker.onFailure(engineMillis);
+        } else {
+            circuitBreaker.onSuccess(engineMillis);
+        }
+
+        // 엔진이 보고한 단계(clova, gemini 등)를 빼고 남는 시간은 프로세스 실행/IPC 등 엔진 오버헤드
+        metrics.record("engine", engineMillis);
+        metrics.recordAll(result.getTimings());
+        long reportedMillis = result.getTimings().values().stream().mapToLong(Long::longValue).sum();
+        metrics.record("engine.overhead", Math.max(0, engineMillis - reportedMillis));
+        log.info("OCR 엔진 처리 완료: jobId={}, engine={}ms, stages={}", workspace.getJobId(), engineMillis, result.getTimings());
+
+        return convertToResponseFormat(result.getParsed(), result.getText());
+    }
+
+    // OCR 텍스트를 먼저 받아 규칙 기반 파서로 파싱하고, 신뢰도가 낮을 때만 AI 파싱을 요청
+    private OcrEngineResult recognizeWithFastPath(OcrWorkspace workspace) {
+        OcrEngineResult ocr = engine.recognizeText(workspace);
+        Map<String, Long> timings = new LinkedHashMap<>(ocr.getTimings());
+
+        long startedAt = System.currentTimeMillis();
+        ReceiptTextParser.Result rules = textParser.parse(ocr.getText());
+        timings.put("parse.rules", System.currentTimeMillis() - startedAt);
+
+        if (rules.getConfidence() >= parserMinConfidence) {
+            log.info("규칙 기반 파싱 사용 (AI 생략): jobId={}, confidence={}", workspace.getJobId(), rules.getConfidence());
+            return new OcrEngineResult(rules.toParsed(), ocr.getText(), timings);
+        }
+
+        log.info("규칙 기반 파싱 신뢰도 부족, AI 파싱 요청: jobId={}, confidence={}", workspace.getJobId(), rules.getConfidence());
+        OcrEngineResult parsed = engine.parseText(workspace, ocr.getText());
+        timings.putAll(parsed.getTimings());
+        return new OcrEngineResult(parsed.getParsed(), ocr.getText(), timings, parsed.getFailedStage());
+    }
+
+    // 외부 OCR 을 쓸 수 없을 때의 응답. 같은 형식에 빈 값을 채우고 manualEntry 로 직접 입력이 필요함을 알림
+    private Map<String, Object> manualEntryResult() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("text", "");
+        response.put("restaurantName", "");
+        response.put("address", "");
+        response.put("items", new ArrayList<>());
+        response.put("total", 0);
+        response.put("manualEntry", true);
+        response.put("message", "영수증 인식 서비스가 일시적으로 원활하지 않습니다. 정보를 직접 입력해주세요.");
+        return response;
+    }
+
+    private Map<String, Object> convertToResponseFormat(Map<String, Object> ocrResult, String pythonOutput) {
+        Map<String, Object> response = new HashMap<>();
+
+        response.put("text", pythonOutput);
+        response.put("restaurantName", ocrResult.getOrDefault("storeName", "알 수 없는 식당"));
+        response.put("address", ocrResult.getOrDefault("address", ""));
+        response.put("items", ocrResult.getOrDefault("menuItems", new ArrayList<>()));
+        response.put("total", ocrResult.getOrDefault("totalPrice", 0));
+
+        return response;
+    }
+}
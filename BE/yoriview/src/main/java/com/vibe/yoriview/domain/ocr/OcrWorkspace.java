@@ -0,0 +1,192 @@
+package com.vibe.yoriview.domain.ocr;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+/**
+ * OCR 요청 하나가 사용하는 격리된 작업 디렉토리.
+ * {jobsDir}/{jobId}/input, {jobsDir}/{jobId}/output 구조로 만들어지며
+ * Python 스크립트는 이 디렉토리를 작업 디렉토리로 삼아 실행됩니다.
+ */
+@Slf4j
+@Getter
+public class OcrWorkspace implements AutoCloseable {
+
+    // 업로드 허용 최대 크기 (8MB)
+    public static final long MAX_IMAGE_BYTES = 8L * 1024 * 1024;
+
+    private static final String RESULT_FILE_NAME = "receipt_result.json";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String jobId;
+    private final Path root;
+
+    // 저장된 이미지 파일과 그 SHA-256 (결과 캐시 키)
+    private Path imageFile;
+    private String imageHash;
+
+    private OcrWorkspace(String jobId, Path root) {
+        this.jobId = jobId;
+        this.root = root;
+    }
+
+    public static OcrWorkspace create(Path jobsDir, String jobId) throws IOException {
+        Path root = jobsDir.resolve(jobId);
+        Files.createDirectories(root.resolve("input"));
+        Files.createDirectories(root.resolve("output"));
+        return new OcrWorkspace(jobId, root);
+    }
+
+    public Path getInputDir() {
+        return root.resolve("input");
+    }
+
+    public Path getOutputDir() {
+        return root.resolve("output");
+    }
+
+    public Path getResultFile() {
+        return getOutputDir().resolve(RESULT_FILE_NAME);
+    }
+
+    /**
+     * 업로드된 이미지를 input/receipt.{확장자} 로 옮기고 내용의 SHA-256 해시를 계산합니다.
+     * transferTo 는 서블릿 컨테이너가 이미 디스크에 받아 둔 임시 파일을 이동(rename)시키므로
+     * 같은 파일 시스템이면 이미지를 다시 쓰지 않습니다.
+     */
+    public Path saveImage(MultipartFile file) throws IOException {
+        String extension = "jpg"; // 기본값
+        String originalFilename = file.getOriginalFilename();
+        if (originalFilename != null && originalFilename.contains(".")) {
+            extension = originalFilename.substring(originalFilename.lastIndexOf(".") + 1);
+        }
+
+        Path filePath = imagePath(extension);
+        file.transferTo(filePath);
+        imageFile = filePath;
+        imageHash = hashFile(filePath);
+        return filePath;
+    }
+
+    /**
+     * 요청 본문 스트림을 input/receipt.{확장자} 로 바로 저장합니다.
+     * 읽는 동안 크기를 확인하여 8MB 를 넘는 순간 중단하고, 해시도 같은 버퍼로 함께 계산합니다.
+     */
+    public Path saveImage(InputStream body, String extension) throws IOException {
+        Path filePath = imagePath(extension);
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        long totalBytes = 0;
+
+        try (ReadableByteChannel source = Channels.newChannel(body);
+             FileChannel target = FileChannel.open(filePath,
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                totalBytes += buffer.remaining();
+                if (totalBytes > MAX_IMAGE_BYTES) {
+                    throw new OcrImageTooLargeException();
+                }
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+        }
+
+        imageFile = filePath;
+        imageHash = HexFormat.of().formatHex(digest.digest());
+        return filePath;
+    }
+
+    /**
+     * 전처리한 이미지로 input/receipt.* 를 교체합니다.
+     * 스크립트가 receipt.* 를 찾으므로 원본은 지우고 새 파일 하나만 남깁니다. 해시(캐시 키)는 원본 기준 그대로 둡니다.
+     */
+    public Path replaceImage(Path source, String extension) throws IOException {
+        Path target = imagePath(extension);
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        if (imageFile != null && !imageFile.equals(target)) {
+            Files.deleteIfExists(imageFile);
+        }
+        imageFile = target;
+        return target;
+    }
+
+    // receipt.jpg -> jpg
+    public String getImageFormat() {
+        String fileName = imageFile.getFileName().toString();
+        return fileName.substring(fileName.lastIndexOf('.') + 1);
+    }
+
+    // 확장자에 경로 문자가 섞여 워크스페이스 밖으로 나가지 않도록 영문/숫자만 남김
+    private Path imagePath(String extension) {
+        String safeExtension = extension == null ? "" : extension.toLowerCase().replaceAll("[^a-z0-9]", "");
+        if (safeExtension.isEmpty()) {
+            safeExtension = "jpg";
+        }
+        return getInputDir().resolve("receipt." + safeExtension);
+    }
+
+    private static String hashFile(Path path) throws IOException {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        deleteRecursively(root);
+    }
+
+    static void deleteRecursively(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder())
+                    .forEach(path -> {
+                        try {
+                            Files.delete(path);
+                        } catch (IOException e) {
+                            log.warn("작업 파일 삭제 실패: {}", path);
+                        }
+                    });
+        } catch (IOException e) {
+            log.warn("작업 디렉토리 정리 실패: {} - {}", dir, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.vibe.yoriview.domain.ocr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ocr-parser.py 를 작업 디렉토리(OcrWorkspace) 단위로 실행하는 OCR 엔진.
+ * 워커 풀이 활성화되어 있으면 상주 프로세스에 요청하고, 아니면 요청마다 프로세스를 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PythonOcrEngine implements OcrEngine {
+
+    private final PythonWorkerPool workerPool;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final String LOG_FILE_NAME = "python.log";
+    private static final String OCR_TEXT_FILE_NAME = "ocr_text.txt";
+
+    // 스크립트 실행 단위: 워커 요청 op / 프로세스 실행 인자
+    private enum Op {
+        PROCESS("process", null),
+        OCR("ocr", "--ocr-only"),
+        PARSE("parse", "--parse-text");
+
+        private final String workerOp;
+        private final String scriptArgument;
+
+        Op(String workerOp, String scriptArgument) {
+            this.workerOp = workerOp;
+            this.scriptArgument = scriptArgument;
+        }
+    }
+
+    @Value("${ocr.base-path:/app/ocr}")
+    private String ocrBasePath;
+
+    @Value("${ocr.python.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    @Override
+    public String getName() {
+        return "python";
+    }
+
+    // 워커 풀을 쓰면 워커 수보다 많은 작업은 워커를 기다리다 실패하므로 풀 크기가 한도
+    @Override
+    public int maxConcurrency() {
+        return workerPool.isEnabled() ? workerPool.getPoolSize() : 0;
+    }
+
+    @Override
+    public OcrEngineResult recognize(OcrWorkspace workspace) {
+        return execute(workspace, Op.PROCESS, null);
+    }
+
+    @Override
+    public OcrEngineResult recognizeText(OcrWorkspace workspace) {
+        OcrEngineResult result = execute(workspace, Op.OCR, null);
+        String ocrText = String.valueOf(result.getParsed().getOrDefault("ocrText", ""));
+        return new OcrEngineResult(null, ocrText, result.getTimings());
+    }
+
+    @Override
+    public OcrEngineResult parseText(OcrWorkspace workspace, String ocrText) {
+        OcrEngineResult result = execute(workspace, Op.PARSE, ocrText);
+        return new OcrEngineResult(result.getParsed(), ocrText, result.getTimings(), result.getFailedStage());
+    }
+
+    private OcrEngineResult execute(OcrWorkspace workspace, Op op, String ocrText) {
+        ProcessResult processResult = run(workspace, op, ocrText);
+
+        if (!processResult.isSuccess()) {
+            log.error("Python 스크립트 실행 실패: jobId={}, {}", workspace.getJobId(), processResult.getErrorMessage());
+            throw new OcrProcessingException("OCR 처리 실패", processResult.getErrorMessage());
+        }
+
+        Map<String, Long> timings = new LinkedHashMap<>(processResult.getTimings());
+        Map<String, Object> ocrResult = processResult.getParsedResult();
+        if (ocrResult == null) {
+            long startedAt = System.currentTimeMillis();
+            ocrResult = readOcrResult(workspace);
+            timings.put("result.read", System.currentTimeMillis() - startedAt);
+        }
+        if (ocrResult == null) {
+            throw new OcrProcessingException("OCR 결과를 읽을 수 없습니다", "결과 파일이 생성되지 않았습니다");
+        }
+        // 프로세스 실행 모드에서는 스크립트가 결과 파일에 단계별 시간을 함께 기록함
+        if (ocrResult.remove("timings") instanceof Map<?, ?> reported) {
+            timings.putAll(toTimings(reported));
+        }
+        // AI 파싱이 실패해 빈 결과로 대신한 경우 스크립트가 failedStage 로 알려 줌
+        Object failedStage = ocrResult.remove("failedStage");
+
+        return new OcrEngineResult(ocrResult, processResult.getOutput(), timings,
+                failedStage == null ? null : String.valueOf(failedStage));
+    }
+
+    // Python 이 보고한 {"clova": 812, ...} 를 단계별 ms 로 변환
+    private static Map<String, Long> toTimings(Map<?, ?> reported) {
+        Map<String, Long> timings = new LinkedHashMap<>();
+        reported.forEach((stage, millis) -> {
+            if (millis instanceof Number number) {
+                timings.put(String.valueOf(stage), number.longValue());
+            }
+        });
+        return timings;
+    }
+
+    private ProcessResult run(OcrWorkspace workspace, Op op, String ocrText) {
+        if (workerPool.isEnabled()) {
+            return runOnWorker(workspace, op, ocrText);
+        }
+        return spawn(workspace, op, ocrText);
+    }
+
+    // Windows와 Unix 환경에서 모두 작동하도록 Python 명령어 설정
+    static String pythonCommand() {
+        return System.getProperty("os.name").toLowerCase().contains("win") ? "python" : "python3";
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProcessResult runOnWorker(OcrWorkspace workspace, Op op, String ocrText) {
+        try {
+            Map<String, Object> response = workerPool.process(workspace, op.workerOp, ocrText);
+            if (!Boolean.TRUE.equals(response.get("ok"))) {
+                return new ProcessResult(false, "Python 워커 처리 오류: " + response.get("error"), "");
+            }
+            Map<String, Long> timings = response.get("timings") instanceof Map<?, ?> reported
+                    ? toTimings(reported)
+                    : Map.of();
+            return new ProcessResult(true, "", "", (Map<String, Object>) response.get("result"), timings);
+        } catch (OcrProcessingException e) {
+            return new ProcessResult(false, e.getDetails(), "");
+        }
+    }
+
+    private ProcessResult spawn(OcrWorkspace workspace, Op op, String ocrText) {
+        Process process = null;
+        try {
+            String scriptPath = ocrBasePath + "/ocr-parser.py";
+            File scriptFile = new File(scriptPath);
+            if (!scriptFile.exists()) {
+                log.error("Python 스크립트 파일을 찾을 수 없습니다: {}", scriptPath);
+                return new ProcessResult(false, "Python 스크립트 파일을 찾을 수 없습니다", "");
+            }
+
+            String pythonCommand = pythonCommand();
+
+            // 스크립트는 작업 디렉토리의 input/ 을 읽고 output/ 에 결과를 쓰므로
+            // 요청별 워크스페이스를 작업 디렉토리로 지정하면 요청끼리 파일이 섞이지 않음
+            Path logFile = workspace.getRoot().resolve(LOG_FILE_NAME);
+            // 이전 단계(ocr)의 결과 파일을 이번 결과로 잘못 읽지 않도록 지우고, parse 단계는 텍스트를 파일로 전달
+            Files.deleteIfExists(workspace.getResultFile());
+            if (ocrText != null) {
+                Files.writeString(workspace.getInputDir().resolve(OCR_TEXT_FILE_NAME), ocrText);
+            }
+
+            List<String> command = new ArrayList<>(List.of(pythonCommand, scriptFile.getAbsolutePath()));
+            if (op.scriptArgument != null) {
+                command.add(op.scriptArgument);
+            }
+            ProcessBuilder processBuilder = new ProcessBuilder(command);
+            processBuilder.directory(workspace.getRoot().toFile());
+            processBuilder.redirectErrorStream(true);
+            processBuilder.redirectOutput(logFile.toFile());
+            processBuilder.environment().putAll(workerPool.stageTimeouts());
+
+            log.info("Python 스크립트 실행 시작: jobId={}, 작업 디렉토리={}", workspace.getJobId(), workspace.getRoot());
+
+            long startedAt = System.currentTimeMillis();
+            process = processBuilder.start();
+            long spawnMillis = System.currentTimeMillis() - startedAt;
+
+            // 출력은 파일로 리다이렉트되므로 waitFor 타임아웃이 실제로 동작함
+            boolean finished = process.waitFor(timeoutSeconds, TimeUnit.SECONDS);
+
+            if (!finished) {
+                process.destroyForcibly();
+                return new ProcessResult(false, "Python 스크립트 실행 타임아웃", "");
+            }
+
+            int exitCode = process.exitValue();
+            String outputStr = Files.exists(logFile) ? Files.readString(logFile) : "";
+
+            log.info("Python 스크립트 완료: jobId={}, exitCode={}, output={}", workspace.getJobId(), exitCode, outputStr);
+
+            if (exitCode == 0) {
+                return new ProcessResult(true, "", outputStr, null, Map.of("python.spawn", spawnMillis));
+            } else {
+                return new ProcessResult(false, "Python 스크립트 실행 오류 (exit code: " + exitCode + "): " + outputStr,
+                        outputStr);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (process != null) {
+                process.destroyForcibly();
+            }
+            return new ProcessResult(false, "Python 스크립트 실행이 중단되었습니다", "");
+        } catch (Exception e) {
+            log.error("Python 스크립트 실행 중 예외 발생", e);
+            return new ProcessResult(false, "Python 스크립트 실행 예외: " + e.getMessage(), "");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readOcrResult(OcrWorkspace workspace) {
+        try {
+            Path resultFilePath = workspace.getResultFile();
+
+            if (!Files.exists(resultFilePath)) {
+                log.error("OCR 결과 파일이 존재하지 않음: {}", resultFilePath);
+                return null;
+            }
+
+            String jsonContent = Files.readString(resultFilePath);
+            log.info("OCR 결과 파일 읽기 완료: jobId={}, {}", workspace.getJobId(), jsonContent);
+
+            return objectMapper.readValue(jsonContent, Map.class);
+
+        } catch (Exception e) {
+            log.error("OCR 결과 파일 읽기 실패", e);
+            return null;
+        }
+    }
+
+    // 프로세스 실행 결과
+    private static class ProcessResult {
+        private final boolean success;
+        private final String errorMessage;
+        private final String output;
+        // 워커 모드에서 응답으로 바로 받은 파싱 결과 (프로세스 모드에서는 null, 결과 파일을 읽음)
+        private final Map<String, Object> parsedResult;
+        private final Map<String, Long> timings;
+
+        ProcessResult(boolean success, String errorMessage, String output) {
+            this(success, errorMessage, output, null, Map.of());
+        }
+
+        ProcessResult(boolean success, String errorMessage, String output, Map<String, Object> parsedResult,
+                      Map<String, Long> timings) {
+            this.success = success;
+            this.errorMessage = errorMessage;
+            this.output = output;
+            this.parsedResult = parsedResult;
+            this.timings = timings;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        public String getOutput() {
+            return output;
+        }
+
+        public Map<String, Object> getParsedResult() {
+            return parsedResult;
+        }
+
+        public Map<String, Long> getTimings() {
+            return timings;
+        }
+    }
+}
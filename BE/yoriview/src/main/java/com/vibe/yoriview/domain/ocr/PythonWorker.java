@@ -0,0 +1,160 @@
+package com.vibe.yoriview.domain.ocr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * `ocr-parser.py --worker` 로 띄운 상주 Python 프로세스 하나.
+ * 요청/응답은 한 줄에 JSON 하나씩 stdin/stdout 으로 주고받습니다.
+ */
+@Slf4j
+class PythonWorker {
+
+    // stdout 이 닫혔음을 알리는 내부 표식
+    private static final String EOF_MARKER = "\u0000EOF";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BlockingQueue<String> responses = new LinkedBlockingQueue<>();
+
+    @Getter
+    private final int workerId;
+    private final Process process;
+    private final BufferedWriter writer;
+
+    @Getter
+    private volatile boolean ready;
+    @Getter
+    private int completedJobs;
+
+    private PythonWorker(int workerId, Process process) {
+        this.workerId = workerId;
+        this.process = process;
+        this.writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+        startReader("python-worker-" + workerId + "-stdout", process.getInputStream(), true);
+        startReader("python-worker-" + workerId + "-stderr", process.getErrorStream(), false);
+    }
+
+    static PythonWorker start(int workerId, Path scriptPath, Path workDir, Map<String, String> environment)
+            throws IOException {
+        ProcessBuilder processBuilder = new ProcessBuilder(
+                PythonOcrEngine.pythonCommand(), "-u", scriptPath.toString(), "--worker");
+        processBuilder.directory(workDir.toFile());
+        processBuilder.environment().putAll(environment);
+        Process process = processBuilder.start();
+        log.info("Python 워커 시작: workerId={}, pid={}", workerId, process.pid());
+        return new PythonWorker(workerId, process);
+    }
+
+    /**
+     * 요청 프레임을 보내고 같은 id 의 응답 프레임을 기다립니다.
+     */
+    @SuppressWarnings("unchecked")
+    synchronized Map<String, Object> call(Map<String, Object> request, long timeoutMillis)
+            throws IOException, TimeoutException, InterruptedException {
+        String requestId = UUID.randomUUID().toString();
+        Map<String, Object> frame = new HashMap<>(request);
+        frame.put("id", requestId);
+
+        writer.write(objectMapper.writeValueAsString(frame));
+        writer.newLine();
+        writer.flush();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            String line = remaining > 0 ? responses.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (line == null) {
+                throw new TimeoutException("Python 워커 응답 타임아웃 (workerId=" + workerId + ")");
+            }
+            if (EOF_MARKER.equals(line)) {
+                throw new IOException("Python 워커가 종료되었습니다 (workerId=" + workerId + ")");
+            }
+
+            Map<String, Object> response;
+            try {
+                response = objectMapper.readValue(line, Map.class);
+            } catch (IOException e) {
+                log.warn("Python 워커 응답 형식 오류: workerId={}, line={}", workerId, line);
+                continue;
+            }
+            if (requestId.equals(response.get("id"))) {
+                ready = true;
+                return response;
+            }
+            log.warn("이전 요청의 응답 무시: workerId={}, id={}", workerId, response.get("id"));
+        }
+    }
+
+    boolean ping(long timeoutMillis) {
+        try {
+            Map<String, Object> response = call(Map.of("op", "ping"), timeoutMillis);
+            return Boolean.TRUE.equals(response.get("ok"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("Python 워커 헬스 체크 실패: workerId={}, {}", workerId, e.getMessage());
+            return false;
+        }
+    }
+
+    void incrementCompletedJobs() {
+        completedJobs++;
+    }
+
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    void destroy() {
+        try {
+            writer.close(); // stdin 이 닫히면 워커 루프가 스스로 종료
+        } catch (IOException ignored) {
+        }
+        process.destroy();
+        try {
+            if (!process.waitFor(2, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+        log.info("Python 워커 종료: workerId={}, 처리 건수={}", workerId, completedJobs);
+    }
+
+    private void startReader(String name, InputStream stream, boolean protocol) {
+        Thread thread = new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (protocol) {
+                        responses.offer(line);
+                    } else {
+                        log.debug("Python 워커 출력: workerId={}, {}", workerId, line);
+                    }
+                }
+            } catch (IOException e) {
+                log.debug("Python 워커 스트림 종료: workerId={}, {}", workerId, e.getMessage());
+            } finally {
+                if (protocol) {
+                    responses.offer(EOF_MARKER);
+                }
+            }
+        }, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,227 @@
+package com.vibe.yoriview.domain.ocr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상주 Python OCR 워커 풀.
+ * 요청마다 python3 를 새로 띄우는 대신 import / 패키지 확인 / 클라이언트 설정을 마친 프로세스를 재사용합니다.
+ * 주기적으로 유휴 워커를 ping 하고, 죽었거나 응답이 없는 워커는 교체하며, N 건 처리한 워커는 새 프로세스로 교체합니다.
+ */
+@Slf4j
+@Component
+public class PythonWorkerPool {
+
+    @Value("${ocr.base-path:/app/ocr}")
+    private String ocrBasePath;
+
+    // 0 이면 풀을 사용하지 않고 요청마다 프로세스를 실행
+    @Value("${ocr.python.pool-size:0}")
+    private int poolSize;
+
+    @Value("${ocr.python.max-jobs-per-worker:200}")
+    private int maxJobsPerWorker;
+
+    @Value("${ocr.python.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    // 단계별 외부 API 타임아웃. 스크립트에 환경 변수로 전달해 전체 타임아웃보다 훨씬 빨리 실패하게 함
+    @Value("${ocr.clova.timeout-seconds:8}")
+    private long clovaTimeoutSeconds;
+
+    @Value("${ocr.gemini.timeout-seconds:12}")
+    private long geminiTimeoutSeconds;
+
+    @Value("${ocr.python.acquire-timeout-seconds:10}")
+    private long acquireTimeoutSeconds;
+
+    @Value("${ocr.python.startup-timeout-seconds:60}")
+    private long startupTimeoutSeconds;
+
+    @Value("${ocr.python.health-check-interval-seconds:30}")
+    private long healthCheckIntervalSeconds;
+
+    @Value("${ocr.python.health-check-timeout-seconds:5}")
+    private long healthCheckTimeoutSeconds;
+
+    private final BlockingQueue<PythonWorker> idleWorkers = new LinkedBlockingQueue<>();
+    private final AtomicInteger nextWorkerId = new AtomicInteger();
+    private final AtomicInteger missingWorkers = new AtomicInteger();
+
+    private Path scriptPath;
+    private ScheduledExecutorService maintenance;
+
+    @PostConstruct
+    void init() {
+        if (!isEnabled()) {
+            log.info("Python 워커 풀 비활성화: 요청마다 프로세스를 실행합니다");
+            return;
+        }
+        scriptPath = Paths.get(ocrBasePath, "ocr-parser.py").toAbsolutePath();
+        for (int i = 0; i < poolSize; i++) {
+            spawnWorker();
+        }
+
+        maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "python-worker-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 시작 직후 한 번 ping 해서 워커를 미리 준비 상태로 만든 뒤 주기적으로 점검
+        maintenance.scheduleWithFixedDelay(this::healthCheck, 0, healthCheckIntervalSeconds, TimeUnit.SECONDS);
+        log.info("Python 워커 풀 초기화: poolSize={}, maxJobsPerWorker={}", poolSize, maxJobsPerWorker);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+        }
+        List<PythonWorker> workers = new ArrayList<>();
+        idleWorkers.drainTo(workers);
+        workers.forEach(PythonWorker::destroy);
+    }
+
+    /**
+     * ocr-parser.py 가 읽는 단계별 타임아웃 환경 변수 (프로세스 실행 모드에서도 사용)
+     */
+    Map<String, String> stageTimeouts() {
+        return Map.of(
+                "OCR_CLOVA_TIMEOUT_SECONDS", String.valueOf(clovaTimeoutSeconds),
+                "OCR_GEMINI_TIMEOUT_SECONDS", String.valueOf(geminiTimeoutSeconds));
+    }
+
+    public boolean isEnabled() {
+        return poolSize > 0;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * 워커 하나를 빌려 워크스페이스를 처리하고 응답 프레임을 반환합니다.
+     * op 는 process(OCR + AI 파싱), ocr(OCR 텍스트만), parse(text 를 AI 파싱) 중 하나입니다.
+     */
+    public Map<String, Object> process(OcrWorkspace workspace, String op, String text) {
+        PythonWorker worker = acquire();
+        boolean healthy = false;
+        try {
+            Map<String, Object> request = new HashMap<>();
+            request.put("op", op);
+            request.put("workspace", workspace.getRoot().toAbsolutePath().toString());
+            if (text != null) {
+                request.put("text", text);
+            }
+
+            long timeout = TimeUnit.SECONDS.toMillis(worker.isReady() ? timeoutSeconds : timeoutSeconds + startupTimeoutSeconds);
+            Map<String, Object> response = worker.call(request, timeout);
+            worker.incrementCompletedJobs();
+            healthy = true;
+            return response;
+
+        } catch (TimeoutException e) {
+            log.error("Python 워커 응답 타임아웃: workerId={}, jobId={}", worker.getWorkerId(), workspace.getJobId());
+            throw new OcrProcessingException("OCR 처리 실패", "Python 스크립트 실행 타임아웃");
+        } catch (IOException e) {
+            log.error("Python 워커 통신 오류: workerId={}, {}", worker.getWorkerId(), e.getMessage());
+            throw new OcrProcessingException("OCR 처리 실패", "Python 워커 통신 오류: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OcrProcessingException("OCR 처리 실패", "OCR 처리가 중단되었습니다");
+        } finally {
+            release(worker, healthy);
+        }
+    }
+
+    private PythonWorker acquire() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(acquireTimeoutSeconds);
+        try {
+            while (true) {
+                long remaining = deadline - System.nanoTime();
+                PythonWorker worker = remaining > 0 ? idleWorkers.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                if (worker == null) {
+                    throw new OcrProcessingException("OCR 처리 실패", "사용 가능한 Python 워커가 없습니다");
+                }
+                if (worker.isAlive()) {
+                    return worker;
+                }
+                log.warn("종료된 Python 워커 발견: workerId={}", worker.getWorkerId());
+                replace(worker);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OcrProcessingException("OCR 처리 실패", "OCR 처리가 중단되었습니다");
+        }
+    }
+
+    private void release(PythonWorker worker, boolean healthy) {
+        if (!healthy || !worker.isAlive()) {
+            replace(worker);
+            return;
+        }
+        if (worker.getCompletedJobs() >= maxJobsPerWorker) {
+            log.info("Python 워커 재생성 (처리 건수 도달): workerId={}, 처리 건수={}",
+                    worker.getWorkerId(), worker.getCompletedJobs());
+            replace(worker);
+            return;
+        }
+        idleWorkers.offer(worker);
+    }
+
+    private void replace(PythonWorker worker) {
+        worker.destroy();
+        spawnWorker();
+    }
+
+    private void spawnWorker() {
+        int workerId = nextWorkerId.incrementAndGet();
+        try {
+            idleWorkers.offer(PythonWorker.start(workerId, scriptPath, scriptPath.getParent(), stageTimeouts()));
+        } catch (IOException e) {
+            // 생성에 실패한 워커는 다음 헬스 체크에서 다시 만듦
+            log.error("Python 워커 시작 실패: workerId={}, {}", workerId, e.getMessage());
+            missingWorkers.incrementAndGet();
+        }
+    }
+
+    private void healthCheck() {
+        try {
+            int missing = missingWorkers.getAndSet(0);
+            for (int i = 0; i < missing; i++) {
+                spawnWorker();
+            }
+
+            // 한 번에 하나씩 꺼내 점검하여 나머지 워커는 계속 요청을 처리할 수 있게 함
+            int idleCount = idleWorkers.size();
+            for (int i = 0; i < idleCount; i++) {
+                PythonWorker worker = idleWorkers.poll();
+                if (worker == null) {
+                    break;
+                }
+                long timeout = worker.isReady() ? healthCheckTimeoutSeconds : startupTimeoutSeconds;
+                if (worker.isAlive() && worker.ping(TimeUnit.SECONDS.toMillis(timeout))) {
+                    idleWorkers.offer(worker);
+                } else {
+                    log.warn("Python 워커 헬스 체크 실패로 교체: workerId={}", worker.getWorkerId());
+                    replace(worker);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Python 워커 헬스 체크 중 오류", e);
+        }
+    }
+}
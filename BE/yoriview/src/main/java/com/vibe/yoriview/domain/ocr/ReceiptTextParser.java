@@ -0,0 +1,355 @@
+package com.vibe.yoriview.domain.ocr;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 규칙 기반 영수증 텍스트 파서.
+ * CLOVA OCR 이 돌려준 텍스트(필드 하나가 한 줄)에서 상호, 주소, 메뉴(품명/수량/금액), 합계를 찾고
+ * 메뉴 금액의 합이 합계와 맞는지 등으로 신뢰도(0~1)를 계산합니다.
+ * 신뢰도가 충분하면 Gemini 호출 없이 이 결과를 그대로 사용합니다.
+ */
+@Component
+public class ReceiptTextParser {
+
+    // 12,000 / 12000 / ₩12,000 / 12,000원
+    private static final Pattern PRICE = Pattern.compile("^[₩\\\\]?(\\d{1,3}(?:,\\d{3})+|\\d{3,8})원?$");
+    private static final Pattern QUANTITY = Pattern.compile("^[xX*]?(\\d{1,2})(?:개)?$");
+    private static final Pattern DATE = Pattern.compile("\\d{2,4}\\s?[-./년]\\s?\\d{1,2}\\s?[-./월]\\s?\\d{1,2}");
+    private static final Pattern TIME = Pattern.compile("\\d{1,2}:\\d{2}");
+    private static final Pattern PHONE = Pattern.compile("0\\d{1,2}[-)]\\d{3,4}-\\d{4}|\\d{4}-\\d{4}");
+    private static final Pattern BUSINESS_NO = Pattern.compile("\\d{3}-\\d{2}-\\d{5}");
+    private static final Pattern LETTER = Pattern.compile("[가-힣A-Za-z]");
+
+    // 합계 키워드 (앞쪽일수록 실제 결제 금액일 가능성이 높음)
+    private static final List<String> TOTAL_KEYWORDS = List.of(
+            "결제금액", "받을금액", "청구금액", "합계금액", "총합계", "총금액", "판매금액", "합계", "총액");
+    // 메뉴 목록이 끝났음을 나타내는 키워드
+    private static final List<String> ITEMS_END_KEYWORDS = List.of(
+            "소계", "부가세", "과세", "면세", "공급가", "봉사료", "할인", "결제금액", "받을금액", "청구금액",
+            "합계", "총합계", "총금액", "총액", "판매금액");
+    private static final List<String> ITEMS_HEADER_KEYWORDS = List.of(
+            "메뉴", "메뉴명", "품명", "상품명", "품목", "단가", "수량", "금액");
+    private static final List<String> STORE_LABELS = List.of(
+            "상호", "상호명", "가맹점", "가맹점명", "매장명", "점포명");
+    private static final List<String> META_KEYWORDS = List.of(
+            "영수증", "신용카드", "매출전표", "고객용", "카드", "승인", "주소", "대표", "대표자", "사업자",
+            "전화", "tel", "포스", "pos", "테이블", "주문번호", "번호", "일시", "거래일시", "판매일");
+    private static final List<String> REGIONS = List.of(
+            "서울", "부산", "대구", "인천", "광주", "대전", "울산", "세종", "경기", "강원",
+            "충북", "충남", "충청", "전북", "전남", "전라", "경북", "경남", "경상", "제주");
+
+    private static final int MAX_ADDRESS_TOKENS = 10;
+
+    // 신뢰도 가중치: 메뉴 금액 합계가 결제 금액과 맞는지가 가장 강한 근거
+    private static final double STORE_WEIGHT = 0.2;
+    private static final double ADDRESS_WEIGHT = 0.1;
+    private static final double TOTAL_WEIGHT = 0.25;
+    private static final double ITEMS_WEIGHT = 0.15;
+    private static final double SUM_MATCH_WEIGHT = 0.3;
+
+    public Result parse(String ocrText) {
+        List<String> tokens = new ArrayList<>();
+        if (ocrText != null) {
+            ocrText.lines().map(String::strip).filter(line -> !line.isEmpty()).forEach(tokens::add);
+        }
+        if (tokens.isEmpty()) {
+            return new Result(null, null, List.of(), null, 0);
+        }
+
+        int[] total = findTotal(tokens);
+        Integer totalPrice = total == null ? null : total[1];
+        int itemsEnd = findItemsEnd(tokens, total == null ? tokens.size() : total[0]);
+        List<Map<String, Object>> menuItems = findItems(tokens, findItemsStart(tokens, itemsEnd), itemsEnd);
+        String storeName = findStoreName(tokens);
+        String address = findAddress(tokens);
+
+        double confidence = 0;
+        if (storeName != null) {
+            confidence += STORE_WEIGHT;
+        }
+        if (address != null) {
+            confidence += ADDRESS_WEIGHT;
+        }
+        if (totalPrice != null) {
+            confidence += TOTAL_WEIGHT;
+        }
+        if (!menuItems.isEmpty()) {
+            confidence += ITEMS_WEIGHT;
+            long sum = menuItems.stream().mapToLong(item -> (Integer) item.get("price")).sum();
+            if (totalPrice != null && sum == totalPrice) {
+                confidence += SUM_MATCH_WEIGHT;
+            }
+        }
+        return new Result(storeName, address, menuItems, totalPrice, Math.min(1.0, confidence));
+    }
+
+    // {키워드 위치, 금액}. 키워드와 같은 줄 또는 바로 뒤 3줄 안의 금액을 사용
+    private int[] findTotal(List<String> tokens) {
+        for (String keyword : TOTAL_KEYWORDS) {
+            for (int i = 0; i < tokens.size(); i++) {
+                String key = key(tokens.get(i));
+                if (!key.startsWith(keyword)) {
+                    continue;
+                }
+                Integer inline = price(key.substring(keyword.length()));
+                if (inline != null) {
+                    return new int[]{i, inline};
+                }
+                for (int j = i + 1; j < Math.min(tokens.size(), i + 4); j++) {
+                    Integer amount = price(key(tokens.get(j)));
+                    if (amount != null) {
+                        return new int[]{i, amount};
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private int findItemsEnd(List<String> tokens, int limit) {
+        for (int i = 0; i < limit; i++) {
+            if (startsWithAny(key(tokens.get(i)), ITEMS_END_KEYWORDS)) {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    // 헤더(품명/단가/수량/금액) 가 있으면 그 다음부터, 없으면 마지막 부가 정보(날짜, 전화, 주소 등) 다음부터
+    private int findItemsStart(List<String> tokens, int itemsEnd) {
+        int start = 0;
+        for (int i = 0; i < itemsEnd; i++) {
+            if (ITEMS_HEADER_KEYWORDS.contains(key(tokens.get(i)))) {
+                start = i + 1;
+            }
+        }
+        if (start > 0) {
+            return start;
+        }
+        for (int i = 0; i < itemsEnd; i++) {
+            if (isMeta(tokens.get(i)) || isAddressStart(tokens.get(i))) {
+                start = i + 1;
+            }
+        }
+        // 부가 정보가 전혀 없으면 첫 줄(상호)을 건너뜀
+        return start > 0 ? skipAddress(tokens, start) : Math.min(1, itemsEnd);
+    }
+
+    // 주소가 여러 줄로 나뉜 경우 주소 뒷부분(도로명, 번지)을 메뉴로 잘못 읽지 않도록 건너뜀
+    private int skipAddress(List<String> tokens, int start) {
+        int index = start;
+        while (index < tokens.size() && !LETTER.matcher(tokens.get(index)).find() && price(key(tokens.get(index))) == null) {
+            index++;
+        }
+        return index;
+    }
+
+    // 품명 뒤에 오는 숫자들: [단가] [수량] 금액. 마지막 금액을 그 메뉴의 금액으로 사용
+    private List<Map<String, Object>> findItems(List<String> tokens, int start, int end) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        int i = start;
+        while (i < end) {
+            String name = tokens.get(i);
+            if (!isItemName(name)) {
+                i++;
+                continue;
+            }
+            List<Integer> prices = new ArrayList<>();
+            Integer quantity = null;
+            boolean quantityAfterPrice = false;
+            int j = i + 1;
+            for (; j < end; j++) {
+                String key = key(tokens.get(j));
+                Integer amount = price(key);
+                if (amount != null) {
+                    prices.add(amount);
+                    continue;
+                }
+                Matcher matcher = QUANTITY.matcher(key);
+                if (matcher.matches() && quantity == null) {
+                    quantity = Integer.parseInt(matcher.group(1));
+                    quantityAfterPrice = !prices.isEmpty();
+                    continue;
+                }
+                break;
+            }
+            if (!prices.isEmpty()) {
+                int amount = prices.get(prices.size() - 1);
+                // 금액 없이 단가 뒤에 수량만 적힌 경우 (품명 단가 수량)
+                if (prices.size() == 1 && quantity != null && quantityAfterPrice) {
+                    amount = prices.get(0) * quantity;
+                }
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("name", name.strip());
+                item.put("price", amount);
+                items.add(item);
+            }
+            i = j;
+        }
+        return items;
+    }
+
+    // 맨 위의 첫 번째 이름 줄. 다음 줄이 "OO점" 이면 지점명으로 붙임. 없으면 "상호" 항목 사용
+    private String findStoreName(List<String> tokens) {
+        int limit = Math.min(tokens.size(), 5);
+        for (int i = 0; i < limit; i++) {
+            String token = tokens.get(i);
+            if (!isItemName(token) || isAddressStart(token)) {
+                continue;
+            }
+            if (i + 1 < tokens.size()) {
+                String next = tokens.get(i + 1).strip();
+                if (next.endsWith("점") && next.length() <= 12 && isItemName(next)) {
+                    return token.strip() + " " + next;
+                }
+            }
+            return token.strip();
+        }
+        for (int i = 0; i + 1 < tokens.size(); i++) {
+            String key = key(tokens.get(i));
+            for (String label : STORE_LABELS) {
+                if (key.startsWith(label)) {
+                    String inline = tokens.get(i).strip().substring(label.length()).replaceFirst("^[\\s:：]+", "");
+                    String value = inline.isEmpty() ? tokens.get(i + 1).strip() : inline;
+                    if (isItemName(value)) {
+                        return value;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    // "주소" 항목 또는 시/도 이름으로 시작하는 줄부터 전화번호, 사업자번호 등이 나오기 전까지
+    private String findAddress(List<String> tokens) {
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i).strip();
+            String key = key(token);
+            int start;
+            List<String> parts = new ArrayList<>();
+            if (key.startsWith("주소")) {
+                String inline = token.substring(token.indexOf("주소") + 2).replaceFirst("^[\\s:：]+", "");
+                if (!inline.isEmpty()) {
+                    parts.add(inline);
+                }
+                start = i + 1;
+            } else if (isAddressStart(token)) {
+                start = i;
+            } else {
+                continue;
+            }
+            for (int j = start; j < tokens.size() && parts.size() < MAX_ADDRESS_TOKENS; j++) {
+                String part = tokens.get(j).strip();
+                if (isMeta(part) || isKeyword(key(part)) || price(key(part)) != null && part.contains(",")) {
+                    break;
+                }
+                parts.add(part);
+            }
+            if (!parts.isEmpty()) {
+                return String.join(" ", parts);
+            }
+        }
+        return null;
+    }
+
+    private boolean isItemName(String token) {
+        String key = key(token);
+        return LETTER.matcher(token).find()
+                && !isMeta(token)
+                && !isKeyword(key)
+                && !ITEMS_HEADER_KEYWORDS.contains(key)
+                && price(key) == null;
+    }
+
+    private boolean isKeyword(String key) {
+        return startsWithAny(key, ITEMS_END_KEYWORDS) || startsWithAny(key, STORE_LABELS);
+    }
+
+    private boolean isMeta(String token) {
+        String key = key(token).toLowerCase();
+        return DATE.matcher(token).find()
+                || TIME.matcher(token).find()
+                || PHONE.matcher(token).find()
+                || BUSINESS_NO.matcher(token).find()
+                || startsWithAny(key, META_KEYWORDS)
+                || key.startsWith("[") || key.startsWith("(");
+    }
+
+    private boolean isAddressStart(String token) {
+        String key = key(token);
+        return startsWithAny(key, REGIONS) && (key.endsWith("시") || key.endsWith("도") || key.endsWith("특별시")
+                || key.endsWith("광역시") || REGIONS.contains(key) || key.contains("구") || key.contains("시"));
+    }
+
+    private static boolean startsWithAny(String key, List<String> keywords) {
+        for (String keyword : keywords) {
+            if (key.startsWith(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 비교용: 공백과 콜론 제거
+    private static String key(String token) {
+        StringBuilder key = new StringBuilder(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (!Character.isWhitespace(c) && c != ':' && c != '：') {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    private static Integer price(String key) {
+        Matcher matcher = PRICE.matcher(key);
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(matcher.group(1).replace(",", ""));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 파싱 결과와 신뢰도. toParsed() 는 AI 파싱 결과와 같은 형식(storeName, address, menuItems, totalPrice) 입니다.
+     */
+    @Getter
+    public static class Result {
+        private final String storeName;
+        private final String address;
+        private final List<Map<String, Object>> menuItems;
+        private final Integer totalPrice;
+        private final double confidence;
+
+        Result(String storeName, String address, List<Map<String, Object>> menuItems, Integer totalPrice,
+               double confidence) {
+            this.storeName = storeName;
+            this.address = address;
+            this.menuItems = menuItems;
+            this.totalPrice = totalPrice;
+            this.confidence = confidence;
+        }
+
+        public Map<String, Object> toParsed() {
+            Map<String, Object> parsed = new HashMap<>();
+            parsed.put("storeName", storeName);
+            parsed.put("address", address);
+            parsed.put("menuItems", new ArrayList<>(menuItems));
+            parsed.put("totalPrice", totalPrice);
+            return parsed;
+        }
+    }
+}
@@ -9,7 +9,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "receipt") // 영수증 정보를 저장하는 테이블
+@Table(name = "receipt", indexes = { // 영수증 정보를 저장하는 테이블
+        @Index(name = "idx_receipt_uploaded", columnList = "uploaded_at, receipt_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,8 +32,9 @@ public class Receipt {
     @Column(name = "restaurant_name", length = 100) // OCR 결과로 추출한 원본 상호명
     private String restaurantName;
 
-    @Column(name = "original_img", columnDefinition = "LONGTEXT")
-    private String originalImg;
+    // 이미지 본문은 ReceiptImageStore 에 두고 내용 해시(SHA-256)만 저장
+    @Column(name = "image_hash", length = 64)
+    private String imageHash;
 
     @Column(name = "receipt_date")
     private LocalDate receiptDate; // 영수증에 찍힌 날짜 (방문일자)
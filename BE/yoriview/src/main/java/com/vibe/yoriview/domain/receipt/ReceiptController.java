@@ -2,10 +2,15 @@ package com.vibe.yoriview.domain.receipt;
 
 import com.vibe.yoriview.domain.receipt.dto.ReceiptRequestDto;
 import com.vibe.yoriview.domain.receipt.dto.ReceiptResponseDto;
+import com.vibe.yoriview.global.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/receipts")
@@ -13,6 +18,7 @@ import java.util.List;
 public class ReceiptController {
 
     private final ReceiptService receiptService;
+    private final ReceiptImageStore imageStore;
 
     // 영수증 + 항목 등록
     @PostMapping
@@ -20,9 +26,25 @@ public class ReceiptController {
         return receiptService.saveReceipt(dto);
     }
 
+    // 영수증 이미지 조회
+    // 파일 내용이 해시로 고정되므로 1년 immutable 캐시 + ETag, Range 요청은 206 부분 응답으로 처리됨
+    @GetMapping("/images/{hash}")
+    public ResponseEntity<Resource> getImage(@PathVariable String hash) {
+        return imageStore.find(hash)
+                .map(path -> ResponseEntity.ok()
+                        .contentType(imageStore.contentTypeOf(path))
+                        .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                        .eTag(hash)
+                        .<Resource>body(new FileSystemResource(path)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     // 모든 영수증 조회 (테스트용)
     @GetMapping
-    public List<ReceiptResponseDto> getAllReceipts() {
-        return receiptService.findAll();
+    public CursorPage<ReceiptResponseDto> getAllReceipts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return receiptService.findAll(cursor, size);
     }
 }
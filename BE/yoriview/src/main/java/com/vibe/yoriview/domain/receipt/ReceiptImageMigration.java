@@ -0,0 +1,94 @@
+package com.vibe.yoriview.domain.receipt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * receipt.original_img(LONGTEXT base64) 에 남아 있는 기존 이미지를 ReceiptImageStore 로 옮기는 일회성 마이그레이션.
+ * 기동 후 별도 스레드에서 실행하며, 옮긴 행은 image_hash 를 채우고 original_img 를 비웁니다.
+ * 엔티티에서는 original_img 매핑을 제거했으므로 JdbcTemplate 으로 직접 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReceiptImageMigration {
+
+    private static final int BATCH_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReceiptImageStore imageStore;
+
+    @Value("${receipt.image.migrate-on-startup:true}")
+    private boolean migrateOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!migrateOnStartup) {
+            return;
+        }
+        Thread thread = new Thread(this::migrate, "receipt-image-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void migrate() {
+        try {
+            if (!hasLegacyColumn()) {
+                return;
+            }
+
+            int migrated = 0;
+            int skipped = 0;
+            String lastReceiptId = "";
+            while (true) {
+                // 한 번에 BATCH_SIZE 행만 메모리에 올림 (receipt_id 기준 키셋 페이지)
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                        "SELECT receipt_id, original_img FROM receipt "
+                                + "WHERE original_img IS NOT NULL AND receipt_id > ? ORDER BY receipt_id LIMIT ?",
+                        lastReceiptId, BATCH_SIZE);
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                for (Map<String, Object> row : rows) {
+                    String receiptId = (String) row.get("receipt_id");
+                    lastReceiptId = receiptId;
+                    try {
+                        String hash = imageStore.storeBase64((String) row.get("original_img"));
+                        jdbcTemplate.update(
+                                "UPDATE receipt SET image_hash = ?, original_img = NULL WHERE receipt_id = ?",
+                                hash, receiptId);
+                        migrated++;
+                    } catch (IllegalArgumentException e) {
+                        // 디코딩할 수 없는 값은 원본을 남겨 두고 건너뜀
+                        log.warn("영수증 이미지 마이그레이션 건너뜀: receiptId={}, {}", receiptId, e.getMessage());
+                        skipped++;
+                    }
+                }
+            }
+
+            if (migrated > 0 || skipped > 0) {
+                log.info("영수증 이미지 마이그레이션 완료: 이동={}, 건너뜀={}", migrated, skipped);
+            }
+        } catch (Exception e) {
+            log.error("영수증 이미지 마이그레이션 실패", e);
+        }
+    }
+
+    // 새로 만든 DB 에는 original_img 컬럼이 없음
+    private boolean hasLegacyColumn() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns "
+                        + "WHERE table_schema = DATABASE() AND table_name = 'receipt' AND column_name = 'original_img'",
+                Integer.class);
+        return count != null && count > 0;
+    }
+}
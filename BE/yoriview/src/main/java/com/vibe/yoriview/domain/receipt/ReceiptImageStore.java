@@ -0,0 +1,187 @@
+package com.vibe.yoriview.domain.receipt;
+
+import com.vibe.yoriview.domain.ocr.OcrImageNormalizer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 영수증 이미지 저장소.
+ * 이미지를 내용(SHA-256) 기준 파일로 저장하고 DB 에는 해시만 남깁니다.
+ * 같은 이미지는 한 번만 저장되고, 파일 내용이 바뀌지 않으므로 오래 캐시할 수 있습니다.
+ * 저장 전에 OCR 전처리와 같은 방식(방향 보정, 긴 변 축소, 흑백 JPEG)으로 줄이며, 해시는 저장된 내용 기준입니다.
+ * 경로: {receipt.image.dir}/{hash 앞 2자리}/{hash}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReceiptImageStore {
+
+    public static final String URL_PREFIX = "/api/receipts/images/";
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    @Value("${receipt.image.dir:/app/data/receipt-images}")
+    private String imageDir;
+
+    // false 면 업로드된 원본을 그대로 저장
+    @Value("${receipt.image.normalize:true}")
+    private boolean normalize;
+
+    private final OcrImageNormalizer normalizer;
+
+    private Path root;
+
+    @PostConstruct
+    void init() {
+        root = Paths.get(imageDir);
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            // 저장 시 다시 시도하므로 기동은 계속함
+            log.warn("영수증 이미지 디렉토리 생성 실패: {} - {}", root, e.getMessage());
+        }
+        log.info("영수증 이미지 저장소 초기화: {}", root);
+    }
+
+    /**
+     * base64 문자열 또는 data URL(data:image/jpeg;base64,...) 을 디코딩해 저장하고 해시를 반환합니다.
+     * 비어 있으면 null 을 반환합니다.
+     */
+    public String storeBase64(String base64) {
+        if (base64 == null || base64.isBlank()) {
+            return null;
+        }
+        int comma = base64.startsWith("data:") ? base64.indexOf(',') : -1;
+        byte[] bytes;
+        try {
+            bytes = Base64.getMimeDecoder().decode(base64.substring(comma + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("영수증 이미지 형식이 올바르지 않습니다.");
+        }
+        return store(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * 스트림을 임시 파일에 쓰면서 해시를 계산하고, 같은 해시의 파일이 없을 때만 제자리로 옮깁니다.
+     * 전처리로 줄어든 경우에는 줄어든 이미지를 저장하고 그 내용의 해시를 반환합니다.
+     */
+    public String store(InputStream in) {
+        Path temp = null;
+        Path normalized = null;
+        try {
+            Files.createDirectories(root);
+            temp = root.resolve(".upload-" + UUID.randomUUID());
+            MessageDigest digest = newDigest();
+            try (DigestInputStream digestIn = new DigestInputStream(in, digest)) {
+                Files.copy(digestIn, temp);
+            }
+
+            Path source = temp;
+            if (normalize) {
+                normalized = root.resolve(".normalized-" + UUID.randomUUID());
+                if (normalizer.normalizeFile(temp, normalized)) {
+                    source = normalized;
+                    digest = newDigest();
+                    digest.update(Files.readAllBytes(normalized));
+                }
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            Path target = pathOf(hash);
+            if (Files.exists(target)) {
+                return hash;
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 같은 이미지가 동시에 저장된 경우
+            }
+            return hash;
+        } catch (IOException e) {
+            throw new UncheckedIOException("영수증 이미지 저장 실패", e);
+        } finally {
+            deleteTemp(temp);
+            deleteTemp(normalized);
+        }
+    }
+
+    public Optional<Path> find(String hash) {
+        // 해시 형식이 아니면 경로 조작 가능성이 있으므로 바로 거절
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    // 파일 앞부분의 시그니처로 이미지 형식 판별
+    public MediaType contentTypeOf(Path path) {
+        byte[] header = new byte[12];
+        int read;
+        try (InputStream in = Files.newInputStream(path)) {
+            read = in.readNBytes(header, 0, header.length);
+        } catch (IOException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        if (read >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return MediaType.IMAGE_JPEG;
+        }
+        if (read >= 4 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G') {
+            return MediaType.IMAGE_PNG;
+        }
+        if (read >= 3 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F') {
+            return MediaType.IMAGE_GIF;
+        }
+        if (read >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return MediaType.parseMediaType("image/webp");
+        }
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+
+    public static String urlOf(String hash) {
+        return hash == null ? null : URL_PREFIX + hash;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteTemp(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.warn("임시 이미지 파일 삭제 실패: {}", temp);
+        }
+    }
+
+    private Path pathOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+}
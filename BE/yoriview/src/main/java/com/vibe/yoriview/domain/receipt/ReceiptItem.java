@@ -6,7 +6,9 @@ import lombok.*;
 import java.util.UUID;
 
 @Entity
-@Table(name = "receipt_item")
+@Table(name = "receipt_item", indexes = {
+        @Index(name = "idx_receipt_item_receipt", columnList = "receipt_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
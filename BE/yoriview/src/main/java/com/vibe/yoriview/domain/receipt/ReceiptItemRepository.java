@@ -2,8 +2,10 @@ package com.vibe.yoriview.domain.receipt;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ReceiptItemRepository extends JpaRepository<ReceiptItem, String> {
     List<ReceiptItem> findByReceiptId(String receiptId);
+    List<ReceiptItem> findByReceiptIdIn(Collection<String> receiptIds);
 }
@@ -1,6 +1,11 @@
 package com.vibe.yoriview.domain.receipt;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ReceiptRepository extends JpaRepository<Receipt, String> {
+    Window<Receipt> findAllBy(ScrollPosition position, Sort sort, Limit limit);
 }
@@ -1,41 +1,51 @@
 package com.vibe.yoriview.domain.receipt;
 
 import com.vibe.yoriview.domain.receipt.dto.*;
+import com.vibe.yoriview.global.pagination.Cursor;
+import com.vibe.yoriview.global.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ReceiptService {
 
+    private static final Cursor RECEIPT_CURSOR = new Cursor("uploadedAt", "receiptId");
+
     private final ReceiptRepository receiptRepository;
     private final ReceiptItemRepository receiptItemRepository;
+    private final ReceiptImageStore imageStore;
 
+    // 한 트랜잭션에서 영수증과 항목을 모아 flush 해 항목 INSERT 가 JDBC 배치 하나로 전송됨
+    @Transactional
     public ReceiptResponseDto saveReceipt(ReceiptRequestDto dto) {
         // 영수증 저장, OCR 상호명 필드 추가 반영
         Receipt receipt = Receipt.builder()
                 .userId(dto.getUserId())
                 .restaurantId(dto.getRestaurantId())
                 .restaurantName(dto.getRestaurantName()) // 추가: OCR로 추출한 상호명 저장
-                .originalImg(dto.getOriginalImg())
+                .imageHash(imageStore.storeBase64(dto.getOriginalImg()))
                 .receiptDate(dto.getReceiptDate())
                 .receiptAddress(dto.getReceiptAddress())
                 .build();
         receiptRepository.save(receipt);
 
         // 항목 저장
-        List<ReceiptItem> savedItems = dto.getItems().stream()
+        List<ReceiptItem> savedItems = receiptItemRepository.saveAll(dto.getItems().stream()
                 .map(itemDto -> ReceiptItem.builder()
                         .receiptId(receipt.getReceiptId())
                         .foodName(itemDto.getFoodName())
                         .price(itemDto.getPrice())
                         .quantity(itemDto.getQuantity() != null ? itemDto.getQuantity() : 1)
                         .build())
-                .map(receiptItemRepository::save)
-                .toList();
+                .toList());
 
         // 응답 DTO 생성, OCR 상호명 포함
         List<ReceiptItemResponseDto> itemDtos = savedItems.stream()
@@ -52,7 +62,7 @@ public class ReceiptService {
                 .userId(receipt.getUserId())
                 .restaurantId(receipt.getRestaurantId())
                 .restaurantName(receipt.getRestaurantName()) // 추가
-                .originalImg(receipt.getOriginalImg())
+                .imageUrl(ReceiptImageStore.urlOf(receipt.getImageHash()))
                 .receiptDate(receipt.getReceiptDate())
                 .receiptAddress(receipt.getReceiptAddress())
                 .uploadedAt(receipt.getUploadedAt())
@@ -60,28 +70,33 @@ public class ReceiptService {
                 .build();
     }
 
-    public List<ReceiptResponseDto> findAll() {
-        return receiptRepository.findAll().stream().map(r -> {
-            List<ReceiptItemResponseDto> itemDtos = receiptItemRepository.findByReceiptId(r.getReceiptId()).stream()
-                    .map(i -> ReceiptItemResponseDto.builder()
-                            .itemId(i.getItemId())
-                            .foodName(i.getFoodName())
-                            .price(i.getPrice())
-                            .quantity(i.getQuantity())
-                            .build())
-                    .toList();
+    public CursorPage<ReceiptResponseDto> findAll(String cursor, Integer size) {
+        Window<Receipt> window = receiptRepository.findAllBy(
+                RECEIPT_CURSOR.decode(cursor), RECEIPT_CURSOR.sort(Sort.Direction.DESC), Cursor.limit(size));
+
+        // 페이지에 포함된 영수증의 항목을 한 번에 조회
+        List<String> receiptIds = window.getContent().stream().map(Receipt::getReceiptId).toList();
+        Map<String, List<ReceiptItemResponseDto>> itemsByReceipt = receiptIds.isEmpty()
+                ? Map.of()
+                : receiptItemRepository.findByReceiptIdIn(receiptIds).stream()
+                        .collect(Collectors.groupingBy(ReceiptItem::getReceiptId,
+                                Collectors.mapping(i -> ReceiptItemResponseDto.builder()
+                                        .itemId(i.getItemId())
+                                        .foodName(i.getFoodName())
+                                        .price(i.getPrice())
+                                        .quantity(i.getQuantity())
+                                        .build(), Collectors.toList())));
 
-            return ReceiptResponseDto.builder()
-                    .receiptId(r.getReceiptId())
-                    .userId(r.getUserId())
-                    .restaurantId(r.getRestaurantId())
-                    .restaurantName(r.getRestaurantName()) // 추가
-                    .originalImg(r.getOriginalImg())
-                    .receiptDate(r.getReceiptDate())
-                    .receiptAddress(r.getReceiptAddress())
-                    .uploadedAt(r.getUploadedAt())
-                    .items(itemDtos)
-                    .build();
-        }).toList();
+        return CursorPage.of(window, RECEIPT_CURSOR, r -> ReceiptResponseDto.builder()
+                .receiptId(r.getReceiptId())
+                .userId(r.getUserId())
+                .restaurantId(r.getRestaurantId())
+                .restaurantName(r.getRestaurantName()) // 추가
+                .imageUrl(ReceiptImageStore.urlOf(r.getImageHash()))
+                .receiptDate(r.getReceiptDate())
+                .receiptAddress(r.getReceiptAddress())
+                .uploadedAt(r.getUploadedAt())
+                .items(itemsByReceipt.getOrDefault(r.getReceiptId(), List.of()))
+                .build());
     }
 }
@@ -16,7 +16,7 @@ public class ReceiptResponseDto {
     private String userId;
     private String restaurantId;
     private String restaurantName; // OCR로 추출한 상호명 필드 추가
-    private String originalImg;
+    private String imageUrl; // 영수증 이미지 조회 경로 (/api/receipts/images/{hash})
     private LocalDate receiptDate;
     private String receiptAddress;
     private LocalDateTime uploadedAt;
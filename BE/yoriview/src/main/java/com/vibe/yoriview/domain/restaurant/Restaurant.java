@@ -2,9 +2,17 @@ package com.vibe.yoriview.domain.restaurant;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "restaurant")
+@Table(name = "restaurant", indexes = {
+        @Index(name = "idx_restaurant_created", columnList = "created_at, restaurant_id")
+}, uniqueConstraints = {
+        // 같은 음식점이 동시에 등록되어도 한 행만 생기도록 정규화된 (이름, 주소) 키에 유니크 인덱스
+        @UniqueConstraint(name = "uk_restaurant_dedup_key", columnNames = "dedup_key")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,4 +35,13 @@ public class Restaurant {
 
     @Column(name = "location_id", length = 20)
     private String locationId;
+
+    // RestaurantKey.of(name, address). 기존 행은 기동 시 RestaurantDedupKeyBackfill 이 채움
+    @Column(name = "dedup_key", length = 64)
+    private String dedupKey;
+
+    // 커서 페이지네이션 정렬 키. 컬럼이 추가될 때 기존 행도 DEFAULT 값으로 채워짐
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6)")
+    private LocalDateTime createdAt;
 }
@@ -0,0 +1,159 @@
+package com.vibe.yoriview.domain.restaurant;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 음식점 read-through 캐시.
+ * 음식점 정보는 거의 바뀌지 않는데 통계/즐겨찾기/방문 목록에서 반복해서 조회되므로,
+ * 없는 id 만 한 번의 IN 쿼리로 읽어 채우고 나머지는 메모리에서 돌려줍니다.
+ * 개수 제한(LRU)과 TTL 로 만료되며, 음식점 정보를 바꾸는 곳에서는 invalidate 를 호출해야 합니다.
+ * 존재하는 음식점만 담으므로 새로 만든 음식점은 따로 무효화할 필요가 없습니다.
+ * 반환되는 객체는 여러 요청이 공유하므로 읽기 전용으로만 사용해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantCache {
+
+    private final RestaurantRepository restaurantRepository;
+
+    @Value("${restaurant.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${restaurant.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private Map<String, Entry> entries;
+
+    @PostConstruct
+    void init() {
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+        log.info("음식점 캐시 초기화: maxEntries={}, ttlSeconds={}", maxEntries, ttlSeconds);
+    }
+
+    public Optional<Restaurant> get(String restaurantId) {
+        if (restaurantId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getAll(List.of(restaurantId)).get(restaurantId));
+    }
+
+    /**
+     * 여러 음식점을 한 번에 조회합니다. 캐시에 없는 id 는 한 번의 쿼리로 읽어 캐시에 넣습니다.
+     * 존재하지 않는 id 는 결과에 포함되지 않습니다.
+     */
+    public Map<String, Restaurant> getAll(Collection<String> restaurantIds) {
+        Map<String, Restaurant> found = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            for (String restaurantId : restaurantIds) {
+                if (restaurantId == null || found.containsKey(restaurantId) || missing.contains(restaurantId)) {
+                    continue;
+                }
+                Entry entry = entries.get(restaurantId);
+                if (entry != null && entry.expiresAt > now) {
+                    found.put(restaurantId, entry.restaurant);
+                    continue;
+                }
+                if (entry != null) {
+                    entries.remove(restaurantId);
+                    expirations.incrementAndGet();
+                }
+                missing.add(restaurantId);
+            }
+        }
+        hits.addAndGet(found.size());
+        misses.addAndGet(missing.size());
+
+        if (!missing.isEmpty()) {
+            loads.incrementAndGet();
+            List<Restaurant> loaded = restaurantRepository.findAllById(missing);
+            long expiresAt = System.currentTimeMillis() + ttlSeconds * 1000;
+            synchronized (entries) {
+                for (Restaurant restaurant : loaded) {
+                    // 요청의 영속성 컨텍스트에 묶인 엔티티 대신 복사본을 공유
+                    Restaurant copy = copyOf(restaurant);
+                    entries.put(copy.getRestaurantId(), new Entry(copy, expiresAt));
+                    found.put(copy.getRestaurantId(), copy);
+                }
+            }
+        }
+        return found;
+    }
+
+    public void invalidate(String restaurantId) {
+        if (restaurantId == null) {
+            return;
+        }
+        synchronized (entries) {
+            if (entries.remove(restaurantId) != null) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (entries) {
+            stats.put("entries", entries.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlSeconds", ttlSeconds);
+        stats.put("hits", hitCount);
+        stats.put("misses", misses.get());
+        stats.put("loads", loads.get());
+        stats.put("evictions", evictions.get());
+        stats.put("expirations", expirations.get());
+        stats.put("invalidations", invalidations.get());
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        return stats;
+    }
+
+    private static Restaurant copyOf(Restaurant restaurant) {
+        return Restaurant.builder()
+                .restaurantId(restaurant.getRestaurantId())
+                .name(restaurant.getName())
+                .category(restaurant.getCategory())
+                .address(restaurant.getAddress())
+                .locationId(restaurant.getLocationId())
+                .createdAt(restaurant.getCreatedAt())
+                .build();
+    }
+
+    private static class Entry {
+        private final Restaurant restaurant;
+        private final long expiresAt;
+
+        Entry(Restaurant restaurant, long expiresAt) {
+            this.restaurant = restaurant;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -3,11 +3,14 @@ package com.vibe.yoriview.domain.restaurant;
 import com.vibe.yoriview.domain.restaurant.dto.LocationDto;
 import com.vibe.yoriview.domain.restaurant.dto.RestaurantRequestDto;
 import com.vibe.yoriview.domain.restaurant.dto.RestaurantResponseDto;
+import com.vibe.yoriview.global.pagination.CursorPage;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/restaurants")
@@ -15,17 +18,21 @@ import java.util.List;
 public class RestaurantController {
 
     private final RestaurantService restaurantService;
+    private final RestaurantCache restaurantCache;
 
     // 음식점 등록
     @PostMapping
-    public RestaurantResponseDto register(@RequestBody RestaurantRequestDto dto) {
+    public RestaurantResponseDto register(@Valid @RequestBody RestaurantRequestDto dto) {
         return restaurantService.create(dto);
     }
 
     // 음식점 전체 조회
     @GetMapping
-    public List<RestaurantResponseDto> getAll() {
-        return restaurantService.getAllRestaurants();
+    public CursorPage<RestaurantResponseDto> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return restaurantService.getAllRestaurants(cursor, size);
     }
 
     // 지역 목록 조회
@@ -40,4 +47,10 @@ public class RestaurantController {
         String userId = (String) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         return restaurantService.getVisitedRestaurants(userId);
     }
+
+    // 음식점 캐시 상태 (항목 수, 적중률)
+    @GetMapping("/cache/stats")
+    public Map<String, Object> getCacheStats() {
+        return restaurantCache.getStats();
+    }
 }
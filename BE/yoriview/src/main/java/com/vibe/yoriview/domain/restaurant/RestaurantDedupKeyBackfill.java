@@ -0,0 +1,86 @@
+package com.vibe.yoriview.domain.restaurant;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * dedup_key 가 비어 있는 기존 음식점 행에 RestaurantKey 를 채우는 일회성 작업.
+ * 이미 같은 키를 가진 행이 있는 중복 음식점은 키를 비워 둔 채 로그만 남깁니다. (리뷰/영수증이 참조하므로 자동 병합하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantDedupKeyBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${restaurant.dedup.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        Thread thread = new Thread(this::backfill, "restaurant-dedup-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void backfill() {
+        try {
+            int updated = 0;
+            int duplicates = 0;
+            int skipped = 0;
+            String lastRestaurantId = "";
+            while (true) {
+                // restaurant_id 기준 키셋 페이지
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                        "SELECT restaurant_id, name, address FROM restaurant "
+                                + "WHERE dedup_key IS NULL AND restaurant_id > ? ORDER BY restaurant_id LIMIT ?",
+                        lastRestaurantId, BATCH_SIZE);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                for (Map<String, Object> row : rows) {
+                    String restaurantId = (String) row.get("restaurant_id");
+                    lastRestaurantId = restaurantId;
+                    String name = (String) row.get("name");
+                    if (!RestaurantKey.hasName(name)) {
+                        // 이름이 비어 있는 행은 중복 판별에서 제외 (dedup_key 는 null 로 둠)
+                        log.warn("음식점 이름이 비어 있어 중복 키를 설정하지 않음: restaurantId={}", restaurantId);
+                        skipped++;
+                        continue;
+                    }
+                    String dedupKey = RestaurantKey.of(name, (String) row.get("address"));
+                    try {
+                        jdbcTemplate.update(
+                                "UPDATE restaurant SET dedup_key = ? WHERE restaurant_id = ? AND dedup_key IS NULL",
+                                dedupKey, restaurantId);
+                        updated++;
+                    } catch (DuplicateKeyException e) {
+                        log.warn("중복 음식점 발견 (키 미설정): restaurantId={}, name={}", restaurantId, row.get("name"));
+                        duplicates++;
+                    }
+                }
+            }
+
+            if (updated > 0 || duplicates > 0 || skipped > 0) {
+                log.info("음식점 중복 키 채우기 완료: 설정={}, 중복={}, 이름 없음={}", updated, duplicates, skipped);
+            }
+        } catch (Exception e) {
+            log.error("음식점 중복 키 채우기 실패", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.vibe.yoriview.domain.restaurant;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * 음식점 중복 판별 키.
+ * 이름과 주소를 유니코드 정규화(NFKC) + 소문자 변환 후 공백/문장부호/기호를 모두 제거하고 SHA-256 으로 묶습니다.
+ * "맛있는 김치찌개 (강남점)" 과 "맛있는김치찌개 강남점" 처럼 OCR 결과가 조금씩 달라도 같은 키가 나옵니다.
+ * 이름이 비어 있거나 문장부호뿐이면 서로 다른 음식점이 한 키로 합쳐지므로 키를 만들지 않습니다.
+ */
+public final class RestaurantKey {
+
+    private RestaurantKey() {
+    }
+
+    public static String of(String name, String address) {
+        String normalizedName = normalize(name);
+        if (normalizedName.isEmpty()) {
+            throw new IllegalArgumentException("음식점 이름에는 글자나 숫자가 있어야 합니다.");
+        }
+        String raw = normalizedName + "\n" + normalize(address);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(raw.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 키를 만들 수 있는 이름인지 (정규화 후 글자나 숫자가 남는지)
+    public static boolean hasName(String name) {
+        return !normalize(name).isEmpty();
+    }
+
+    // 글자와 숫자만 남김 (전각 문자, 호환 한글 자모 등은 NFKC 에서 먼저 통일됨)
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+}
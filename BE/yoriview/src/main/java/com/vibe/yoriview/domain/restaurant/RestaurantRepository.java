@@ -1,9 +1,37 @@
 package com.vibe.yoriview.domain.restaurant;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+import java.util.Optional;
 
 public interface RestaurantRepository extends JpaRepository<Restaurant, String> {
-    List<Restaurant> findByNameAndAddress(String name, String address);
+
+    Optional<Restaurant> findByDedupKey(String dedupKey);
+
+    // 공유 잠금 읽기는 트랜잭션 스냅샷이 아닌 최신 커밋 값을 읽으므로, 다른 요청이 방금 넣은 행도 보임
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select r from Restaurant r where r.dedupKey = :dedupKey")
+    Optional<Restaurant> findLatestByDedupKey(@Param("dedupKey") String dedupKey);
+
+    // dedup_key 가 이미 있으면 아무것도 바꾸지 않음 (0 반환). 동시에 같은 키를 넣으면 뒤의 요청은 앞의 커밋을 기다림
+    @Modifying
+    @Query(value = """
+            insert into restaurant (restaurant_id, name, category, address, location_id, dedup_key)
+            values (:restaurantId, :name, :category, :address, :locationId, :dedupKey)
+            on duplicate key update restaurant_id = restaurant_id
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("restaurantId") String restaurantId, @Param("name") String name,
+                       @Param("category") String category, @Param("address") String address,
+                       @Param("locationId") String locationId, @Param("dedupKey") String dedupKey);
+
+    Window<Restaurant> findAllBy(ScrollPosition position, Sort sort, Limit limit);
 }
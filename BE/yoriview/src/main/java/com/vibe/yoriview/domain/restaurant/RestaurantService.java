@@ -4,36 +4,57 @@ import com.vibe.yoriview.domain.restaurant.dto.LocationDto;
 import com.vibe.yoriview.domain.restaurant.dto.RestaurantRequestDto;
 import com.vibe.yoriview.domain.restaurant.dto.RestaurantResponseDto;
 import com.vibe.yoriview.domain.review.ReviewRepository;
+import com.vibe.yoriview.global.pagination.Cursor;
+import com.vibe.yoriview.global.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RestaurantService {
 
+    private static final Cursor RESTAURANT_CURSOR = new Cursor("createdAt", "restaurantId");
+
     private final RestaurantRepository restaurantRepository;
     private final LocationRepository locationRepository;
     private final ReviewRepository reviewRepository;
+    private final RestaurantCache restaurantCache;
 
+    @Transactional
     public RestaurantResponseDto create(RestaurantRequestDto dto) {
-        Restaurant entity = Restaurant.builder()
-                .restaurantId(java.util.UUID.randomUUID().toString())
-                .name(dto.getName())
-                .category(dto.getCategory())
-                .address(dto.getAddress())
-                .locationId(dto.getLocationId())
-                .build();
-        restaurantRepository.save(entity);
+        Restaurant entity = findOrCreate(dto.getName(), dto.getCategory(), dto.getAddress(), dto.getLocationId());
         return RestaurantResponseDto.from(entity);
     }
 
-    public List<RestaurantResponseDto> getAllRestaurants() {
-        return restaurantRepository.findAll().stream()
-                .map(RestaurantResponseDto::from)
-                .toList();
+    /**
+     * 정규화된 (이름, 주소) 키로 기존 음식점을 찾고, 없으면 새로 만듭니다.
+     * 동시에 같은 음식점이 들어와도 유니크 인덱스 덕분에 한 행만 생기고 나머지 요청은 그 행을 돌려받습니다.
+     */
+    @Transactional
+    public Restaurant findOrCreate(String name, String category, String address, String locationId) {
+        String dedupKey = RestaurantKey.of(name, address);
+        Optional<Restaurant> existing = restaurantRepository.findByDedupKey(dedupKey);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        restaurantRepository.insertIfAbsent(UUID.randomUUID().toString(), name, category, address, locationId, dedupKey);
+        return restaurantRepository.findLatestByDedupKey(dedupKey)
+                .orElseThrow(() -> new IllegalStateException("음식점 저장 후 조회 실패: " + name));
+    }
+
+    public CursorPage<RestaurantResponseDto> getAllRestaurants(String cursor, Integer size) {
+        Window<Restaurant> window = restaurantRepository.findAllBy(
+                RESTAURANT_CURSOR.decode(cursor), RESTAURANT_CURSOR.sort(Sort.Direction.DESC), Cursor.limit(size));
+        return CursorPage.of(window, RESTAURANT_CURSOR, RestaurantResponseDto::from);
     }
 
     public List<LocationDto> getAllLocations() {
@@ -52,7 +73,7 @@ public class RestaurantService {
                 .collect(Collectors.toList());
 
         // 해당 음식점들의 정보 조회
-        return restaurantRepository.findAllById(visitedRestaurantIds)
+        return restaurantCache.getAll(visitedRestaurantIds).values()
                 .stream()
                 .map(RestaurantResponseDto::from)
                 .collect(Collectors.toList());
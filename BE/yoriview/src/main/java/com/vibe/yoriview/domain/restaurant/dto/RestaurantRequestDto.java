@@ -1,5 +1,7 @@
 package com.vibe.yoriview.domain.restaurant.dto;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import lombok.*;
 
 @Getter
@@ -8,6 +10,9 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 public class RestaurantRequestDto {
+    // 문장부호뿐인 이름은 중복 판별 키(RestaurantKey)를 만들 수 없으므로 거절
+    @NotBlank(message = "음식점 이름은 필수입니다.")
+    @Pattern(regexp = "(?s).*[\\p{L}\\p{Nd}].*", message = "음식점 이름에는 글자나 숫자가 있어야 합니다.")
     private String name;
     private String category;
     private String address;
@@ -1,25 +1,24 @@
 package com.vibe.yoriview.domain.review;
 
 import com.vibe.yoriview.domain.receipt.Receipt;
+import com.vibe.yoriview.domain.receipt.ReceiptImageStore;
 import com.vibe.yoriview.domain.receipt.ReceiptItem;
 import com.vibe.yoriview.domain.receipt.ReceiptItemRepository;
 import com.vibe.yoriview.domain.receipt.ReceiptRepository;
 import com.vibe.yoriview.domain.restaurant.Restaurant;
-import com.vibe.yoriview.domain.restaurant.RestaurantRepository;
+import com.vibe.yoriview.domain.restaurant.RestaurantService;
 import com.vibe.yoriview.domain.review.dto.CompleteReviewRequestDto;
 import com.vibe.yoriview.domain.review.dto.CompleteReviewResponseDto;
+import com.vibe.yoriview.domain.statistics.StatisticsUpdater;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
 import java.util.List;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -28,11 +27,31 @@ public class CompleteReviewService {
 
     private final ReceiptRepository receiptRepository;
     private final ReceiptItemRepository receiptItemRepository;
-    private final RestaurantRepository restaurantRepository;
+    private final RestaurantService restaurantService;
     private final ReviewRepository reviewRepository;
+    private final ReceiptImageStore imageStore;
+    private final StatisticsUpdater statisticsUpdater;
 
+    // JSON 본문의 originalImg(base64) 로 이미지를 받는 방식
     @Transactional
     public CompleteReviewResponseDto saveCompleteReview(CompleteReviewRequestDto dto, String userId) {
+        return save(dto, userId, () -> imageStore.storeBase64(dto.getOriginalImg()));
+    }
+
+    // multipart 의 image 파트를 base64 변환 없이 저장소로 바로 흘려 보내는 방식
+    @Transactional
+    public CompleteReviewResponseDto saveCompleteReview(CompleteReviewRequestDto dto, String userId, MultipartFile image) {
+        return save(dto, userId, () -> {
+            if (image == null || image.isEmpty()) {
+                return null;
+            }
+            try (InputStream in = image.getInputStream()) {
+                return imageStore.store(in);
+            }
+        });
+    }
+
+    private CompleteReviewResponseDto save(CompleteReviewRequestDto dto, String userId, ImageSource imageSource) {
         try {
             log.info("통합 리뷰 저장 시작 - 사용자: {}", userId);
 
@@ -41,7 +60,7 @@ public class CompleteReviewService {
             log.info("식당 정보 처리 완료 - ID: {}, 이름: {}", restaurant.getRestaurantId(), restaurant.getName());
 
             // 2. 영수증 정보 저장
-            Receipt receipt = saveReceipt(dto, userId, restaurant.getRestaurantId());
+            Receipt receipt = saveReceipt(dto, userId, restaurant.getRestaurantId(), imageSource.store());
             log.info("영수증 저장 완료 - ID: {}", receipt.getReceiptId());
 
             // 3. 영수증 항목들 저장
@@ -52,9 +71,6 @@ public class CompleteReviewService {
             Review review = saveReview(dto, userId, receipt.getReceiptId(), restaurant.getRestaurantId());
             log.info("리뷰 저장 완료 - ID: {}", review.getReviewId());
 
-            // 5. OCR input 폴더의 이미지 파일 삭제
-            deleteOcrInputFiles();
-
             return CompleteReviewResponseDto.builder()
                     .success(true)
                     .reviewId(review.getReviewId())
@@ -70,32 +86,17 @@ public class CompleteReviewService {
     }
 
     private Restaurant findOrCreateRestaurant(CompleteReviewRequestDto dto) {
-        // 이름과 주소로 기존 식당 찾기
-        List<Restaurant> existingRestaurants = restaurantRepository.findByNameAndAddress(
-                dto.getRestaurantName(), dto.getRestaurantAddress());
-
-        if (!existingRestaurants.isEmpty()) {
-            return existingRestaurants.get(0);
-        }
-
-        // 새 식당 생성
-        Restaurant newRestaurant = Restaurant.builder()
-                .restaurantId(UUID.randomUUID().toString())
-                .name(dto.getRestaurantName())
-                .category(dto.getRestaurantCategory())
-                .address(dto.getRestaurantAddress())
-                .locationId(dto.getLocationId())
-                .build();
-
-        return restaurantRepository.save(newRestaurant);
+        // 정규화된 이름 + 주소 키로 기존 식당을 찾고, 없으면 새로 생성
+        return restaurantService.findOrCreate(dto.getRestaurantName(), dto.getRestaurantCategory(),
+                dto.getRestaurantAddress(), dto.getLocationId());
     }
 
-    private Receipt saveReceipt(CompleteReviewRequestDto dto, String userId, String restaurantId) {
+    private Receipt saveReceipt(CompleteReviewRequestDto dto, String userId, String restaurantId, String imageHash) {
         Receipt receipt = Receipt.builder()
                 .userId(userId)
                 .restaurantId(restaurantId)
                 .restaurantName(dto.getOcrRestaurantName())
-                .originalImg(dto.getOriginalImg())
+                .imageHash(imageHash)
                 .receiptDate(dto.getReceiptDate())
                 .receiptAddress(dto.getOcrAddress())
                 .build();
@@ -129,58 +130,14 @@ public class CompleteReviewService {
                 .rating(dto.getRating())
                 .build();
 
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        statisticsUpdater.onReviewCreated(saved);
+        return saved;
     }
 
-    /**
-     * OCR input 폴더의 이미지 파일들을 삭제합니다.
-     */
-    private void deleteOcrInputFiles() {
-        try {
-            String ocrBasePath = findOcrBasePath();
-            String inputDir = ocrBasePath + "/input";
-            Path inputDirPath = Paths.get(inputDir);
-            
-            if (Files.exists(inputDirPath) && Files.isDirectory(inputDirPath)) {
-                // input 폴더의 모든 파일 삭제
-                Files.list(inputDirPath)
-                    .filter(Files::isRegularFile)
-                    .forEach(file -> {
-                        try {
-                            Files.delete(file);
-                            log.info("OCR input 파일 삭제됨: {}", file.getFileName());
-                        } catch (IOException e) {
-                            log.warn("OCR input 파일 삭제 실패: {} - {}", file.getFileName(), e.getMessage());
-                        }
-                    });
-                log.info("OCR input 폴더 정리 완료");
-            } else {
-                log.debug("OCR input 폴더가 존재하지 않음: {}", inputDir);
-            }
-        } catch (Exception e) {
-            log.warn("OCR input 파일 삭제 중 오류 발생: {}", e.getMessage());
-            // 파일 삭제 실패는 전체 프로세스에 영향을 주지 않도록 예외를 던지지 않음
-        }
-    }
-
-    /**
-     * OCR 기본 경로를 찾는 메소드
-     */
-    private String findOcrBasePath() {
-        String userDir = System.getProperty("user.dir");
-        String[] possiblePaths = {
-            userDir + "/BE/yoriview/ocr",  // Spring Boot jar 실행 시 (EC2)
-            userDir + "/ocr"               // 로컬 개발 시
-        };
-        
-        for (String path : possiblePaths) {
-            File scriptFile = new File(path + "/ocr-parser.py");
-            if (scriptFile.exists()) {
-                return path;
-            }
-        }
-        
-        // 기본값으로 BE/yoriview/ocr 반환
-        return userDir + "/BE/yoriview/ocr";
+    // 영수증 이미지를 저장소에 기록하고 해시를 반환 (이미지가 없으면 null)
+    @FunctionalInterface
+    private interface ImageSource {
+        String store() throws IOException;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.vibe.yoriview.domain.review;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 내 리뷰 상세 조회용 프로젝션 (review + restaurant + receipt 를 한 번에 조인한 결과).
+ * 영수증 이미지는 내용 대신 해시만 가져옵니다.
+ */
+public interface MyReviewView {
+    String getReviewId();
+    String getUserId();
+    String getReceiptId();
+    String getStyleId();
+    String getRestaurantId();
+    String getLocationId();
+    String getContent();
+    BigDecimal getRating();
+    LocalDateTime getCreatedAt();
+
+    String getRestaurantName();
+    String getRestaurantAddress();
+    String getRestaurantCategory();
+
+    String getImageHash();
+    LocalDate getReceiptDate();
+}
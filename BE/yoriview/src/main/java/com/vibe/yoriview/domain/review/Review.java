@@ -9,7 +9,12 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "review")
+@Table(name = "review", indexes = {
+        // 커서 페이지네이션 (created_at, review_id) 순서로 바로 읽기 위한 인덱스
+        @Index(name = "idx_review_created", columnList = "created_at, review_id"),
+        @Index(name = "idx_review_user_created", columnList = "user_id, created_at, review_id"),
+        @Index(name = "idx_review_user_restaurant", columnList = "user_id, restaurant_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -5,14 +5,24 @@ import com.vibe.yoriview.domain.review.dto.CompleteReviewResponseDto;
 import com.vibe.yoriview.domain.review.dto.ReviewRequestDto;
 import com.vibe.yoriview.domain.review.dto.ReviewResponseDto;
 import com.vibe.yoriview.domain.review.dto.MyReviewResponseDto;
+import com.vibe.yoriview.global.pagination.CursorPage;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/reviews")
 @RequiredArgsConstructor
@@ -21,6 +31,10 @@ public class ReviewController {
     private final ReviewService reviewService;
     private final CompleteReviewService completeReviewService;
 
+    // 리뷰 내보내기 응답 제한 시간. 이 요청에만 적용하고 다른 비동기 응답(SSE, 일괄 OCR)은 각자 제한 시간을 씀
+    @Value("${review.export.timeout-minutes:30}")
+    private long exportTimeoutMinutes;
+
     // 리뷰 등록
     @PostMapping
     public ReviewResponseDto create(@Valid @RequestBody ReviewRequestDto dto) {
@@ -40,14 +54,39 @@ public class ReviewController {
 
     // 전체 리뷰 조회 (관리자/테스트용)
     @GetMapping
-    public List<ReviewResponseDto> getAll() {
-        return reviewService.findAll();
+    public CursorPage<ReviewResponseDto> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return reviewService.findAll(cursor, size);
+    }
+
+    // 전체 리뷰 내보내기 (관리자용, NDJSON 스트리밍)
+    // 목록을 메모리에 모으지 않고 읽는 대로 응답에 써서 리뷰 수와 관계없이 힙 사용량이 일정함
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(HttpServletRequest request) {
+        // StreamingResponseBody 는 요청의 비동기 제한 시간(spring.mvc.async.request-timeout)을 따르므로 이 요청만 늘림
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest()
+                .setTimeout(TimeUnit.MINUTES.toMillis(exportTimeoutMinutes));
+        StreamingResponseBody body = out -> {
+            long startedAt = System.currentTimeMillis();
+            long count = reviewService.exportAll(out);
+            log.info("리뷰 내보내기 완료: {}건, {}ms", count, System.currentTimeMillis() - startedAt);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reviews.ndjson\"")
+                .body(body);
     }
 
     // 특정 사용자 리뷰 조회
     @GetMapping("/user/{userId}")
-    public List<ReviewResponseDto> getByUser(@PathVariable String userId) {
-        return reviewService.findByUserId(userId);
+    public CursorPage<ReviewResponseDto> getByUser(
+            @PathVariable String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return reviewService.findByUserId(userId, cursor, size);
     }
 
     // 리뷰 삭제
@@ -59,20 +98,24 @@ public class ReviewController {
 
     // 로그인한 사용자의 리뷰만 조회
     @GetMapping("/me")
-    public List<ReviewResponseDto> getMyReviews(
-            @RequestParam(defaultValue = "latest") String order
+    public CursorPage<ReviewResponseDto> getMyReviews(
+            @RequestParam(defaultValue = "latest") String order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
         String userId = (String) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return reviewService.findByUserId(userId, order);
+        return reviewService.findByUserId(userId, order, cursor, size);
     }
 
     // 로그인한 사용자의 상세 리뷰 조회
     @GetMapping("/me/detailed")
-    public List<MyReviewResponseDto> getMyDetailedReviews(
-            @RequestParam(defaultValue = "latest") String order
+    public CursorPage<MyReviewResponseDto> getMyDetailedReviews(
+            @RequestParam(defaultValue = "latest") String order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
         String userId = (String) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return reviewService.getMyReviews(userId, order);
+        return reviewService.getMyReviews(userId, order, cursor, size);
     }
 
     // 통합 리뷰 저장 (OCR + 식당 + 리뷰 + 스타일)
@@ -82,4 +125,16 @@ public class ReviewController {
         CompleteReviewResponseDto response = completeReviewService.saveCompleteReview(dto, userId);
         return ResponseEntity.ok(response);
     }
+
+    // 통합 리뷰 저장 (multipart: review 파트는 JSON, image 파트는 영수증 이미지 파일)
+    // 이미지를 base64 로 JSON 에 담지 않으므로 전송량이 줄고 서버가 큰 문자열을 만들지 않음
+    @PostMapping(value = "/complete", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CompleteReviewResponseDto> saveCompleteReviewMultipart(
+            @Valid @RequestPart("review") CompleteReviewRequestDto dto,
+            @RequestPart(value = "image", required = false) MultipartFile image
+    ) {
+        String userId = (String) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        CompleteReviewResponseDto response = completeReviewService.saveCompleteReview(dto, userId, image);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -1,13 +1,65 @@
 package com.vibe.yoriview.domain.review;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReviewRepository extends JpaRepository<Review, String> {
     List<Review> findByUserId(String userId);
-    List<Review> findByUserIdOrderByCreatedAtDesc(String userId);
-    List<Review> findByUserIdOrderByCreatedAtAsc(String userId);
     List<Review> findByUserIdAndRestaurantId(String userId, String restaurantId);
-}
 
+    Window<Review> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Review> findByUserId(String userId, ScrollPosition position, Sort sort, Limit limit);
+
+    // 리뷰마다 식당/영수증을 따로 조회하지 않도록 한 번의 조인으로 상세 정보를 가져옴
+    String MY_REVIEWS_SELECT = """
+            select rv.reviewId as reviewId, rv.userId as userId, rv.receiptId as receiptId, rv.styleId as styleId,
+                   rv.restaurantId as restaurantId, rv.locationId as locationId, rv.content as content,
+                   rv.rating as rating, rv.createdAt as createdAt,
+                   r.name as restaurantName, r.address as restaurantAddress, r.category as restaurantCategory,
+                   rc.imageHash as imageHash, rc.receiptDate as receiptDate
+            from Review rv
+            left join Restaurant r on r.restaurantId = rv.restaurantId
+            left join Receipt rc on rc.receiptId = rv.receiptId
+            where rv.userId = :userId
+            """;
+
+    // 키셋 페이지네이션: 커서(createdAt, reviewId) 이후의 행만 읽음. 첫 페이지는 createdAt 이 null
+    @Query(MY_REVIEWS_SELECT + """
+              and (:createdAt is null or rv.createdAt < :createdAt
+                   or (rv.createdAt = :createdAt and rv.reviewId < :reviewId))
+            order by rv.createdAt desc, rv.reviewId desc
+            """)
+    List<MyReviewView> findMyReviewsNewest(@Param("userId") String userId, @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("reviewId") String reviewId, Pageable pageable);
+
+    @Query(MY_REVIEWS_SELECT + """
+              and (:createdAt is null or rv.createdAt > :createdAt
+                   or (rv.createdAt = :createdAt and rv.reviewId > :reviewId))
+            order by rv.createdAt asc, rv.reviewId asc
+            """)
+    List<MyReviewView> findMyReviewsOldest(@Param("userId") String userId, @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("reviewId") String reviewId, Pageable pageable);
+
+    // 전체 내보내기용 스트림. MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 읽어오고
+    // 그 외에는 전체 결과를 메모리에 올림. 읽기 전용이라 dirty checking 스냅샷도 만들지 않음
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select rv from Review rv")
+    Stream<Review> streamAll();
+}
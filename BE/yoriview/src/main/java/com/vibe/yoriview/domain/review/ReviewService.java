@@ -1,24 +1,46 @@
 package com.vibe.yoriview.domain.review;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.vibe.yoriview.domain.review.dto.ReviewRequestDto;
 import com.vibe.yoriview.domain.review.dto.ReviewResponseDto;
 import com.vibe.yoriview.domain.review.dto.MyReviewResponseDto;
-import com.vibe.yoriview.domain.restaurant.RestaurantRepository;
-import com.vibe.yoriview.domain.receipt.ReceiptRepository;
+import com.vibe.yoriview.domain.statistics.StatisticsUpdater;
+import com.vibe.yoriview.global.pagination.Cursor;
+import com.vibe.yoriview.global.pagination.CursorPage;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
 
+    private static final Cursor REVIEW_CURSOR = new Cursor("createdAt", "reviewId");
+
+    // 내보내기 중 이 행 수마다 응답을 flush 해서 클라이언트가 바로 받기 시작하게 함
+    private static final int EXPORT_FLUSH_ROWS = 500;
+
     private final ReviewRepository reviewRepository;
-    private final RestaurantRepository restaurantRepository;
-    private final ReceiptRepository receiptRepository;
+    private final StatisticsUpdater statisticsUpdater;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
+    @Transactional
     public ReviewResponseDto create(ReviewRequestDto dto, String userId) {
         Review review = Review.builder()
                 .userId(userId)
@@ -30,77 +52,78 @@ public class ReviewService {
                 .rating(dto.getRating())
                 .build();
         reviewRepository.save(review);
+        statisticsUpdater.onReviewCreated(review);
         return ReviewResponseDto.from(review);
     }
 
-    public List<ReviewResponseDto> findAll() {
-        return reviewRepository.findAll().stream()
-                .map(ReviewResponseDto::from)
-                .toList();
+    public CursorPage<ReviewResponseDto> findAll(String cursor, Integer size) {
+        Window<Review> window = reviewRepository.findAllBy(
+                REVIEW_CURSOR.decode(cursor), REVIEW_CURSOR.sort(Sort.Direction.DESC), Cursor.limit(size));
+        return CursorPage.of(window, REVIEW_CURSOR, ReviewResponseDto::from);
     }
 
-    public List<ReviewResponseDto> findByUserId(String userId) {
-        return reviewRepository.findByUserId(userId).stream()
-                .map(ReviewResponseDto::from)
-                .toList();
+    public CursorPage<ReviewResponseDto> findByUserId(String userId, String cursor, Integer size) {
+        return findByUserId(userId, "latest", cursor, size);
     }
 
-    public List<ReviewResponseDto> findByUserId(String userId, String order) {
-        List<Review> reviews;
-        if ("oldest".equalsIgnoreCase(order)) {
-            reviews = reviewRepository.findByUserIdOrderByCreatedAtAsc(userId);
-        } else {
-            reviews = reviewRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        }
+    public CursorPage<ReviewResponseDto> findByUserId(String userId, String order, String cursor, Integer size) {
+        Window<Review> window = reviewRepository.findByUserId(
+                userId, REVIEW_CURSOR.decode(cursor), REVIEW_CURSOR.sort(direction(order)), Cursor.limit(size));
+        return CursorPage.of(window, REVIEW_CURSOR, ReviewResponseDto::from);
+    }
 
-        return reviews.stream()
-                .map(ReviewResponseDto::from)
-                .toList();
+    // 사용자의 리뷰를 상세 정보(식당, 영수증)와 함께 한 번의 쿼리로 조회
+    public CursorPage<MyReviewResponseDto> getMyReviews(String userId, String order, String cursor, Integer size) {
+        Map<String, ?> keys = ((KeysetScrollPosition) REVIEW_CURSOR.decode(cursor)).getKeys();
+        LocalDateTime createdAt = (LocalDateTime) keys.get("createdAt");
+        String reviewId = (String) keys.get("reviewId");
+        int limit = Cursor.limit(size).max();
+
+        // 한 건 더 읽어서 다음 페이지가 있는지 확인
+        Pageable pageable = PageRequest.ofSize(limit + 1);
+        List<MyReviewView> rows = direction(order) == Sort.Direction.ASC
+                ? reviewRepository.findMyReviewsOldest(userId, createdAt, reviewId, pageable)
+                : reviewRepository.findMyReviewsNewest(userId, createdAt, reviewId, pageable);
+
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows.stream().map(MyReviewResponseDto::from).toList(), null);
+        }
+        List<MyReviewView> page = rows.subList(0, limit);
+        MyReviewView last = page.get(limit - 1);
+        return new CursorPage<>(page.stream().map(MyReviewResponseDto::from).toList(),
+                REVIEW_CURSOR.encode(last.getCreatedAt(), last.getReviewId()));
     }
 
-    // 사용자의 리뷰를 상세 정보와 함께 조회
-    public List<MyReviewResponseDto> getMyReviews(String userId, String order) {
-        List<Review> reviews;
-        if ("oldest".equalsIgnoreCase(order)) {
-            reviews = reviewRepository.findByUserIdOrderByCreatedAtAsc(userId);
-        } else {
-            reviews = reviewRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    /**
+     * 전체 리뷰를 NDJSON(한 줄에 리뷰 하나)으로 out 에 씁니다.
+     * 행을 하나씩 읽어 바로 쓰고 영속성 컨텍스트에서 분리하므로 리뷰 수와 관계없이 메모리 사용량이 일정합니다.
+     * 스트림은 트랜잭션 안에서만 읽을 수 있으므로 응답을 쓰는 스레드에서 호출해야 합니다.
+     */
+    @Transactional(readOnly = true)
+    public long exportAll(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ReviewResponseDto.class);
+        long count = 0;
+        try (Stream<Review> reviews = reviewRepository.streamAll()) {
+            Iterator<Review> iterator = reviews.iterator();
+            while (iterator.hasNext()) {
+                Review review = iterator.next();
+                out.write(writer.writeValueAsBytes(ReviewResponseDto.from(review)));
+                out.write('\n');
+                entityManager.detach(review);
+                if (++count % EXPORT_FLUSH_ROWS == 0) {
+                    out.flush();
+                }
+            }
         }
+        out.flush();
+        return count;
+    }
 
-        return reviews.stream()
-                .map(review -> {
-                    MyReviewResponseDto dto = MyReviewResponseDto.builder()
-                            .reviewId(review.getReviewId())
-                            .userId(review.getUserId())
-                            .receiptId(review.getReceiptId())
-                            .styleId(review.getStyleId())
-                            .restaurantId(review.getRestaurantId())
-                            .locationId(review.getLocationId())
-                            .content(review.getContent())
-                            .rating(review.getRating())
-                            .createdAt(review.getCreatedAt())
-                            .build();
-
-                    // 식당 정보 조회
-                    restaurantRepository.findById(review.getRestaurantId())
-                            .ifPresent(restaurant -> {
-                                dto.setRestaurantName(restaurant.getName());
-                                dto.setRestaurantAddress(restaurant.getAddress());
-                                dto.setRestaurantCategory(restaurant.getCategory());
-                            });
-
-                    // 영수증 정보 조회
-                    receiptRepository.findById(review.getReceiptId())
-                            .ifPresent(receipt -> {
-                                dto.setOriginalImg(receipt.getOriginalImg());
-                                dto.setReceiptDate(receipt.getReceiptDate());
-                            });
-
-                    return dto;
-                })
-                .toList();
+    private static Sort.Direction direction(String order) {
+        return "oldest".equalsIgnoreCase(order) ? Sort.Direction.ASC : Sort.Direction.DESC;
     }
 
+    @Transactional
     public ReviewResponseDto updateReview(String reviewId, ReviewRequestDto dto, String userId) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new RuntimeException("리뷰를 찾을 수 없습니다."));
@@ -109,6 +132,8 @@ public class ReviewService {
             throw new RuntimeException("리뷰 수정 권한이 없습니다.");
         }
 
+        statisticsUpdater.onReviewRatingChanged(userId, review.getRating(), dto.getRating());
+
         review.setContent(dto.getContent());
         review.setRating(dto.getRating());
         review.setStyleId(dto.getStyleId());
@@ -128,5 +153,6 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        statisticsUpdater.onReviewDeleted(review);
     }
 }
@@ -1,5 +1,7 @@
 package com.vibe.yoriview.domain.review.dto;
 
+import com.vibe.yoriview.domain.receipt.ReceiptImageStore;
+import com.vibe.yoriview.domain.review.MyReviewView;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -29,6 +31,25 @@ public class MyReviewResponseDto {
     private String restaurantCategory;
     
     // 영수증 정보
-    private String originalImg; // Base64 이미지
+    private String imageUrl; // 영수증 이미지 조회 경로 (/api/receipts/images/{hash})
     private LocalDate receiptDate;
-} 
\ No newline at end of file
+
+    public static MyReviewResponseDto from(MyReviewView view) {
+        return MyReviewResponseDto.builder()
+                .reviewId(view.getReviewId())
+                .userId(view.getUserId())
+                .receiptId(view.getReceiptId())
+                .styleId(view.getStyleId())
+                .restaurantId(view.getRestaurantId())
+                .locationId(view.getLocationId())
+                .content(view.getContent())
+                .rating(view.getRating())
+                .createdAt(view.getCreatedAt())
+                .restaurantName(view.getRestaurantName())
+                .restaurantAddress(view.getRestaurantAddress())
+                .restaurantCategory(view.getRestaurantCategory())
+                .imageUrl(ReceiptImageStore.urlOf(view.getImageHash()))
+                .receiptDate(view.getReceiptDate())
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.vibe.yoriview.domain.statistics;
+
+import com.vibe.yoriview.domain.review.Review;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 사용자 통계를 DB 에서 GROUP BY 로 집계하는 쿼리 모음.
+ * 리뷰 엔티티를 불러오지 않고 칸마다 한 행씩만 받아오며, review(user_id, created_at, ...) 인덱스를 사용합니다.
+ */
+public interface StatisticsAggregateRepository extends Repository<Review, String> {
+
+    interface ReviewTotals {
+        Long getReviewCount();
+        Long getRatedCount();
+        BigDecimal getRatingSum();
+    }
+
+    interface BucketCount {
+        String getBucketKey();
+        Long getBucketCount();
+    }
+
+    @Query(value = """
+            select count(*) as reviewCount, count(rating) as ratedCount, coalesce(sum(rating), 0) as ratingSum
+            from review
+            where user_id = :userId
+            """, nativeQuery = true)
+    ReviewTotals sumReviews(@Param("userId") String userId);
+
+    @Query(value = """
+            select date_format(created_at, '%Y-%m') as bucketKey, count(*) as bucketCount
+            from review
+            where user_id = :userId
+            group by bucketKey
+            """, nativeQuery = true)
+    List<BucketCount> countReviewsByMonth(@Param("userId") String userId);
+
+    // rating 은 DECIMAL(2,1) 이라 문자열로 바꾸면 "4.5" 형식 (StatisticsUpdater.ratingKey 와 같음)
+    @Query(value = """
+            select cast(rating as char) as bucketKey, count(*) as bucketCount
+            from review
+            where user_id = :userId and rating is not null
+            group by rating
+            """, nativeQuery = true)
+    List<BucketCount> countReviewsByRating(@Param("userId") String userId);
+
+    @Query(value = """
+            select coalesce(r.category, '') as bucketKey, count(*) as bucketCount
+            from review rv
+            join restaurant r on r.restaurant_id = rv.restaurant_id
+            where rv.user_id = :userId
+            group by bucketKey
+            """, nativeQuery = true)
+    List<BucketCount> countReviewsByCategory(@Param("userId") String userId);
+}
@@ -18,4 +18,12 @@ public class StatisticsController {
         String userId = (String) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         return statisticsService.getUserStatistics(userId);
     }
+
+    // 로그인한 사용자의 통계를 원본 데이터에서 다시 계산
+    @PostMapping("/me/rebuild")
+    public UserStatisticsResponseDto rebuildMyStatistics() {
+        String userId = (String) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        statisticsService.rebuild(userId);
+        return statisticsService.getUserStatistics(userId);
+    }
 }
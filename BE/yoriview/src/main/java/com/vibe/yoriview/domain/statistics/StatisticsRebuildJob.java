@@ -0,0 +1,56 @@
+package com.vibe.yoriview.domain.statistics;
+
+import com.vibe.yoriview.domain.user.User;
+import com.vibe.yoriview.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 사용자의 통계 읽기 모델을 주기적으로 다시 계산해 증분 갱신의 어긋남을 바로잡습니다.
+ * 사용자마다 별도 트랜잭션으로 처리하므로 한 사용자의 실패가 나머지에 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsRebuildJob {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final StatisticsService statisticsService;
+    private final UserRepository userRepository;
+
+    // statistics.rebuild.cron 을 "-" 로 두면 비활성화
+    @Scheduled(cron = "${statistics.rebuild.cron:0 0 4 * * *}")
+    public void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        int rebuilt = 0;
+        int failed = 0;
+
+        ScrollPosition position = ScrollPosition.keyset();
+        Sort sort = Sort.by("createdAt", "userId");
+        while (true) {
+            Window<User> users = userRepository.findAllBy(position, sort, Limit.of(PAGE_SIZE));
+            for (User user : users) {
+                try {
+                    statisticsService.rebuild(user.getUserId());
+                    rebuilt++;
+                } catch (Exception e) {
+                    failed++;
+                    log.error("사용자 통계 재계산 실패: userId={}", user.getUserId(), e);
+                }
+            }
+            if (!users.hasNext() || users.isEmpty()) {
+                break;
+            }
+            position = users.positionAt(users.size() - 1);
+        }
+        log.info("사용자 통계 전체 재계산 완료: {}명, 실패 {}명, {}ms",
+                rebuilt, failed, System.currentTimeMillis() - startedAt);
+    }
+}
@@ -1,94 +1,95 @@
 package com.vibe.yoriview.domain.statistics;
 
-import com.vibe.yoriview.domain.review.Review;
-import com.vibe.yoriview.domain.review.ReviewRepository;
-import com.vibe.yoriview.domain.restaurant.RestaurantRepository;
+import com.vibe.yoriview.domain.restaurant.Restaurant;
+import com.vibe.yoriview.domain.restaurant.RestaurantCache;
+import com.vibe.yoriview.domain.statistics.UserStatisticsBucket.Kind;
 import com.vibe.yoriview.domain.statistics.dto.UserStatisticsResponseDto;
-import com.vibe.yoriview.domain.visit.VisitLog;
-import com.vibe.yoriview.domain.visit.VisitLogRepository;
+import com.vibe.yoriview.domain.visit.UserRestaurantVisit;
+import com.vibe.yoriview.domain.visit.UserRestaurantVisitRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
 import java.util.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StatisticsService {
 
-    private final ReviewRepository reviewRepository;
-    private final RestaurantRepository restaurantRepository;
-    private final VisitLogRepository visitLogRepository;
+    private static final int TOP_VISITED_LIMIT = 3;
 
-    public UserStatisticsResponseDto getUserStatistics(String userId) {
-        List<Review> reviews = reviewRepository.findByUserId(userId);
-        List<VisitLog> visits = visitLogRepository.findByUserId(userId);
-
-        LocalDate now = LocalDate.now();
+    private final UserStatisticsRepository statisticsRepository;
+    private final UserStatisticsBucketRepository bucketRepository;
+    private final StatisticsAggregateRepository aggregateRepository;
+    private final UserRestaurantVisitRepository visitCounterRepository;
+    private final RestaurantCache restaurantCache;
+    private final TransactionTemplate transactionTemplate;
 
-        // 1. 총 리뷰 수, 평균 평점
-        int total = reviews.size();
-        double avg = reviews.stream()
-                .mapToDouble(r -> r.getRating().doubleValue())
-                .average()
-                .orElse(0.0);
+    // 미리 계산된 통계를 읽기만 함 (리뷰/방문 수와 관계없이 쿼리 3번 + 음식점 캐시)
+    public UserStatisticsResponseDto getUserStatistics(String userId) {
+        // 처음 조회하는 사용자는 먼저 계산해 커밋한 뒤 읽음 (읽기 트랜잭션의 스냅샷에 계산 결과가 보이도록)
+        if (!statisticsRepository.existsById(userId)) {
+            buildFirst(userId);
+        }
+        return transactionTemplate.execute(status -> read(userId));
+    }
 
-        // 2. 이번 달 리뷰 수
-        int thisMonth = (int) reviews.stream()
-                .filter(r -> r.getCreatedAt().getMonth() == now.getMonth()
-                        && r.getCreatedAt().getYear() == now.getYear())
-                .count();
+    private UserStatisticsResponseDto read(String userId) {
+        UserStatistics summary = statisticsRepository.findById(userId)
+                .orElseGet(() -> UserStatistics.builder().userId(userId).ratingSum(BigDecimal.ZERO).build());
 
-        // 3. 월별 리뷰 수 (yyyy-MM 기준)
+        // 1. 월별 리뷰 수 (yyyy-MM), 평점 분포, 카테고리 분포
         Map<String, Integer> monthlyCount = new HashMap<>();
-        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM");
-        for (Review r : reviews) {
-            String key = r.getCreatedAt().format(fmt);
-            monthlyCount.put(key, monthlyCount.getOrDefault(key, 0) + 1);
-        }
-
-        // 4. 평점 분포 (ex: "4.5" -> 3개)
         Map<String, Integer> ratingDist = new HashMap<>();
-        for (Review r : reviews) {
-            String key = String.format("%.1f", r.getRating());
-            ratingDist.put(key, ratingDist.getOrDefault(key, 0) + 1);
-        }
-
-        // 5. 카테고리 분포 (한식, 중식, 양식 등)
         Map<String, Integer> categoryDist = new HashMap<>();
-        for (Review r : reviews) {
-            restaurantRepository.findById(r.getRestaurantId()).ifPresent(res -> {
-                String category = res.getCategory();
-                categoryDist.put(category, categoryDist.getOrDefault(category, 0) + 1);
-            });
+        for (UserStatisticsBucket bucket : bucketRepository.findByUserIdAndKindIn(
+                userId, EnumSet.of(Kind.MONTH, Kind.RATING, Kind.CATEGORY))) {
+            if (bucket.getBucketCount() <= 0) {
+                continue;
+            }
+            Map<String, Integer> target = switch (bucket.getKind()) {
+                case MONTH -> monthlyCount;
+                case RATING -> ratingDist;
+                default -> categoryDist;
+            };
+            target.put(bucket.getBucketKey(), (int) bucket.getBucketCount());
         }
 
-        // 6. 자주 방문한 음식점 TOP 3
-        Map<String, UserStatisticsResponseDto.TopVisitedDto> visitMap = new HashMap<>();
-        for (VisitLog log : visits) {
-            restaurantRepository.findById(log.getRestaurantId()).ifPresent(res -> {
-                String name = res.getName();
-                visitMap.computeIfAbsent(name, n ->
-                        UserStatisticsResponseDto.TopVisitedDto.builder()
-                                .name(name)
-                                .category(res.getCategory())
-                                .visitCount(0)
-                                .build()
-                ).setVisitCount(
-                        visitMap.get(name).getVisitCount() + 1
-                );
-            });
-        }
+        // 2. 이번 달 리뷰 수
+        int thisMonth = monthlyCount.getOrDefault(StatisticsUpdater.monthKey(LocalDate.now().atStartOfDay()), 0);
 
-        List<UserStatisticsResponseDto.TopVisitedDto> topVisited = new ArrayList<>(visitMap.values());
-        topVisited.sort((a, b) -> b.getVisitCount() - a.getVisitCount());
-        if (topVisited.size() > 3) topVisited = topVisited.subList(0, 3);
+        // 3. 자주 방문한 음식점 TOP 3
+        List<UserRestaurantVisit> topVisits = visitCounterRepository.findByUserIdOrderByVisitCountDesc(
+                userId, Limit.of(TOP_VISITED_LIMIT));
+        Map<String, Restaurant> restaurants = restaurantCache.getAll(
+                topVisits.stream().map(UserRestaurantVisit::getRestaurantId).toList());
+        List<UserStatisticsResponseDto.TopVisitedDto> topVisited = new ArrayList<>();
+        for (UserRestaurantVisit visit : topVisits) {
+            Restaurant res = restaurants.get(visit.getRestaurantId());
+            if (res != null) {
+                topVisited.add(UserStatisticsResponseDto.TopVisitedDto.builder()
+                        .name(res.getName())
+                        .category(res.getCategory())
+                        .visitCount((int) visit.getVisitCount())
+                        .build());
+            }
+        }
 
-        // 7. 통합 응답
+        // 4. 통합 응답
+        double avg = summary.getRatedCount() == 0 ? 0.0
+                : summary.getRatingSum().divide(BigDecimal.valueOf(summary.getRatedCount()), 1, RoundingMode.HALF_UP)
+                        .doubleValue();
         return UserStatisticsResponseDto.builder()
-                .totalReviewCount(total)
-                .avgRating(Math.round(avg * 10.0) / 10.0)
+                .totalReviewCount((int) summary.getReviewCount())
+                .avgRating(avg)
                 .thisMonthReviewCount(thisMonth)
                 .monthlyReviewCount(monthlyCount)
                 .ratingDistribution(ratingDist)
@@ -96,4 +97,68 @@ public class StatisticsService {
                 .topVisitedRestaurants(topVisited)
                 .build();
     }
+
+    /**
+     * 처음 조회하는 사용자의 통계를 계산합니다.
+     * 빈 요약 행을 먼저 넣어 잠그므로, 동시에 처음 조회한 다른 요청은 이 커밋을 기다린 뒤 계산 없이 결과를 읽습니다.
+     */
+    private void buildFirst(String userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (statisticsRepository.insertEmptyIfAbsent(userId) == 0) {
+                log.info("사용자 통계를 다른 요청이 먼저 계산함: userId={}", userId);
+                return;
+            }
+            recompute(userId);
+        });
+    }
+
+    /**
+     * 리뷰/방문 원본에서 사용자의 통계를 처음부터 다시 계산합니다.
+     * 증분 갱신이 어긋났을 때(배포 전 데이터, 음식점 카테고리 변경 등) 사용합니다.
+     * 집계 전에 요약 행을 잠가, 그동안 저장된 리뷰의 증분 갱신은 이 트랜잭션이 끝난 뒤 새 합계 위에 더해집니다.
+     */
+    @Transactional
+    public UserStatistics rebuild(String userId) {
+        if (statisticsRepository.findForUpdate(userId).isEmpty()
+                && statisticsRepository.insertEmptyIfAbsent(userId) == 0) {
+            // 그 사이 처음 조회한 요청이 요약 행을 만들었으면 그 행을 잠금
+            statisticsRepository.findForUpdate(userId);
+        }
+        return recompute(userId);
+    }
+
+    // 집계는 모두 DB 의 GROUP BY 로 처리하므로 리뷰/방문 수와 관계없이 쿼리 몇 번으로 끝남 (요약 행을 잠근 트랜잭션에서 호출)
+    private UserStatistics recompute(String userId) {
+        StatisticsAggregateRepository.ReviewTotals totals = aggregateRepository.sumReviews(userId);
+
+        Map<Kind, List<StatisticsAggregateRepository.BucketCount>> counts = new EnumMap<>(Kind.class);
+        counts.put(Kind.MONTH, aggregateRepository.countReviewsByMonth(userId));
+        counts.put(Kind.RATING, aggregateRepository.countReviewsByRating(userId));
+        counts.put(Kind.CATEGORY, aggregateRepository.countReviewsByCategory(userId));
+
+        bucketRepository.deleteAllByUserId(userId);
+        List<UserStatisticsBucket> buckets = new ArrayList<>();
+        counts.forEach((kind, values) -> values.forEach(count -> buckets.add(UserStatisticsBucket.builder()
+                .userId(userId)
+                .kind(kind)
+                .bucketKey(count.getBucketKey())
+                .bucketCount(count.getBucketCount())
+                .build())));
+        bucketRepository.saveAll(buckets);
+
+        // 방문 카운터도 visit_log 이력 기준으로 다시 맞춤
+        visitCounterRepository.deleteAllByUserId(userId);
+        visitCounterRepository.rebuildFromVisitLog(userId);
+
+        UserStatistics summary = UserStatistics.builder()
+                .userId(userId)
+                .reviewCount(totals.getReviewCount())
+                .ratedCount(totals.getRatedCount())
+                .ratingSum(totals.getRatingSum())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        statisticsRepository.upsert(userId, summary.getReviewCount(), summary.getRatedCount(), summary.getRatingSum());
+        log.info("사용자 통계 재계산: userId={}, 리뷰 {}건, 분포 {}칸", userId, totals.getReviewCount(), buckets.size());
+        return summary;
+    }
 }
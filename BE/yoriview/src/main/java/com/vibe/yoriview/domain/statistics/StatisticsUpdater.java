@@ -0,0 +1,94 @@
+package com.vibe.yoriview.domain.statistics;
+
+import com.vibe.yoriview.domain.restaurant.Restaurant;
+import com.vibe.yoriview.domain.restaurant.RestaurantCache;
+import com.vibe.yoriview.domain.review.Review;
+import com.vibe.yoriview.domain.statistics.UserStatisticsBucket.Kind;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 리뷰가 바뀔 때 사용자 통계 읽기 모델을 증분으로 갱신합니다.
+ * 모든 갱신은 행 단위 원자적 증감(UPDATE / INSERT ... ON DUPLICATE KEY UPDATE)이라 동시에 호출되어도 값이 섞이지 않고,
+ * 호출한 쪽의 트랜잭션에 참여하므로 리뷰 저장이 롤백되면 통계 갱신도 함께 롤백됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatisticsUpdater {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final UserStatisticsRepository statisticsRepository;
+    private final UserStatisticsBucketRepository bucketRepository;
+    private final RestaurantCache restaurantCache;
+
+    @Transactional
+    public void onReviewCreated(Review review) {
+        apply(review, 1);
+    }
+
+    @Transactional
+    public void onReviewDeleted(Review review) {
+        apply(review, -1);
+    }
+
+    // 리뷰 수정 시 바뀔 수 있는 집계는 평점뿐 (작성 월, 음식점은 그대로)
+    @Transactional
+    public void onReviewRatingChanged(String userId, BigDecimal oldRating, BigDecimal newRating) {
+        if (oldRating == null ? newRating == null : newRating != null && oldRating.compareTo(newRating) == 0) {
+            return;
+        }
+        long ratedDelta = (newRating != null ? 1 : 0) - (oldRating != null ? 1 : 0);
+        BigDecimal ratingDelta = orZero(newRating).subtract(orZero(oldRating));
+        if (statisticsRepository.increment(userId, 0, ratedDelta, ratingDelta) == 0) {
+            return;
+        }
+        if (oldRating != null) {
+            bucketRepository.add(userId, Kind.RATING.name(), ratingKey(oldRating), -1);
+        }
+        if (newRating != null) {
+            bucketRepository.add(userId, Kind.RATING.name(), ratingKey(newRating), 1);
+        }
+    }
+
+    private void apply(Review review, int sign) {
+        String userId = review.getUserId();
+        BigDecimal rating = review.getRating();
+        int updated = statisticsRepository.increment(userId, sign, rating != null ? sign : 0,
+                orZero(rating).multiply(BigDecimal.valueOf(sign)));
+        if (updated == 0) {
+            return; // 아직 계산되지 않은 사용자 (처음 조회할 때 전체 계산)
+        }
+
+        LocalDateTime createdAt = review.getCreatedAt() != null ? review.getCreatedAt() : LocalDateTime.now();
+        bucketRepository.add(userId, Kind.MONTH.name(), monthKey(createdAt), sign);
+        if (rating != null) {
+            bucketRepository.add(userId, Kind.RATING.name(), ratingKey(rating), sign);
+        }
+        restaurantCache.get(review.getRestaurantId()).ifPresent(restaurant ->
+                bucketRepository.add(userId, Kind.CATEGORY.name(), categoryKey(restaurant), sign));
+    }
+
+    static String monthKey(LocalDateTime dateTime) {
+        return dateTime.format(MONTH_FORMAT);
+    }
+
+    // DB 집계(cast(rating as char))와 같은 형식: 소수 첫째 자리까지, 로케일 영향 없음
+    static String ratingKey(BigDecimal rating) {
+        return rating.setScale(1, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    static String categoryKey(Restaurant restaurant) {
+        return restaurant.getCategory() != null ? restaurant.getCategory() : "";
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
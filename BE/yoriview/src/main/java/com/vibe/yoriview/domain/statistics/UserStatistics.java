@@ -0,0 +1,38 @@
+package com.vibe.yoriview.domain.statistics;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 통계 요약 (미리 계산된 읽기 모델).
+ * 리뷰/방문이 생길 때마다 증분으로 갱신되며, 행이 없으면 아직 계산되지 않은 사용자입니다.
+ */
+@Entity
+@Table(name = "user_statistics")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStatistics {
+
+    @Id
+    @Column(name = "user_id", length = 36)
+    private String userId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    // 평점이 있는 리뷰 수 / 평점 합계 (평균 = ratingSum / ratedCount)
+    @Column(name = "rated_count", nullable = false)
+    private long ratedCount;
+
+    @Column(name = "rating_sum", precision = 12, scale = 1, nullable = false)
+    private BigDecimal ratingSum;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,79 @@
+package com.vibe.yoriview.domain.statistics;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+
+/**
+ * 사용자별 통계 분포의 한 칸 (월별 리뷰 수, 평점 분포, 카테고리 분포).
+ * 음식점별 방문 수는 user_restaurant_visit 카운터 테이블에 있습니다.
+ * 기본 키를 직접 지정하므로 Persistable 로 새 행임을 알려, 재계산 시 saveAll 이 행마다 SELECT 후 merge 하지 않고
+ * 바로 persist 해서 배치 INSERT 로 묶이게 합니다.
+ */
+@Entity
+@Table(name = "user_statistics_bucket")
+@IdClass(UserStatisticsBucket.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStatisticsBucket implements Persistable<UserStatisticsBucket.Key> {
+
+    public enum Kind {
+        MONTH,    // yyyy-MM -> 리뷰 수
+        RATING,   // "4.5" -> 리뷰 수
+        CATEGORY  // 음식점 카테고리 -> 리뷰 수
+    }
+
+    @Id
+    @Column(name = "user_id", length = 36)
+    private String userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", length = 10)
+    private Kind kind;
+
+    @Id
+    @Column(name = "bucket_key", length = 50)
+    private String bucketKey;
+
+    @Column(name = "bucket_count", nullable = false)
+    private long bucketCount;
+
+    // DB 에서 읽었거나 저장된 뒤에는 true (builder 로 만든 객체는 새 행)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public Key getId() {
+        return new Key(userId, kind, bucketKey);
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String userId;
+        private Kind kind;
+        private String bucketKey;
+    }
+}
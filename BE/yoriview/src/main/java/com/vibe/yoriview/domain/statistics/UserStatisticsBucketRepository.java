@@ -0,0 +1,28 @@
+package com.vibe.yoriview.domain.statistics;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserStatisticsBucketRepository extends JpaRepository<UserStatisticsBucket, UserStatisticsBucket.Key> {
+
+    List<UserStatisticsBucket> findByUserIdAndKindIn(String userId, Collection<UserStatisticsBucket.Kind> kinds);
+
+    // (user_id, kind, bucket_key) 가 기본 키라서 동시에 갱신해도 행 단위로 원자적으로 더해짐
+    @Modifying
+    @Query(value = """
+            insert into user_statistics_bucket (user_id, kind, bucket_key, bucket_count)
+            values (:userId, :kind, :bucketKey, :delta)
+            on duplicate key update bucket_count = bucket_count + :delta
+            """, nativeQuery = true)
+    void add(@Param("userId") String userId, @Param("kind") String kind, @Param("bucketKey") String bucketKey,
+             @Param("delta") long delta);
+
+    @Modifying
+    @Query("delete from UserStatisticsBucket b where b.userId = :userId")
+    void deleteAllByUserId(@Param("userId") String userId);
+}
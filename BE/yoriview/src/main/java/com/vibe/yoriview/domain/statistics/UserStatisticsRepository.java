@@ -0,0 +1,51 @@
+package com.vibe.yoriview.domain.statistics;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+public interface UserStatisticsRepository extends JpaRepository<UserStatistics, String> {
+
+    // 요약 행이 있을 때만 증가시킴. 0 을 반환하면 아직 계산되지 않은 사용자이므로 처음 조회할 때 전체 계산함
+    // 재계산 중인 사용자면 재계산이 커밋될 때까지 기다렸다가 새 합계 위에 더함
+    @Modifying
+    @Query(value = """
+            update user_statistics
+            set review_count = review_count + :reviewDelta,
+                rated_count = rated_count + :ratedDelta,
+                rating_sum = rating_sum + :ratingDelta,
+                updated_at = now(6)
+            where user_id = :userId
+            """, nativeQuery = true)
+    int increment(@Param("userId") String userId, @Param("reviewDelta") long reviewDelta,
+                  @Param("ratedDelta") long ratedDelta, @Param("ratingDelta") BigDecimal ratingDelta);
+
+    // 재계산하는 동안 증분 갱신이 끼어들지 않도록 요약 행을 배타 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserStatistics s where s.userId = :userId")
+    Optional<UserStatistics> findForUpdate(@Param("userId") String userId);
+
+    // 빈 요약 행을 넣고 잠금. 이미 있으면(다른 요청이 먼저 넣었으면 그 커밋을 기다린 뒤) 아무것도 하지 않고 0 반환
+    @Modifying
+    @Query(value = """
+            insert ignore into user_statistics (user_id, review_count, rated_count, rating_sum, updated_at)
+            values (:userId, 0, 0, 0, now(6))
+            """, nativeQuery = true)
+    int insertEmptyIfAbsent(@Param("userId") String userId);
+
+    @Modifying
+    @Query(value = """
+            insert into user_statistics (user_id, review_count, rated_count, rating_sum, updated_at)
+            values (:userId, :reviewCount, :ratedCount, :ratingSum, now(6))
+            on duplicate key update review_count = :reviewCount, rated_count = :ratedCount,
+                                    rating_sum = :ratingSum, updated_at = now(6)
+            """, nativeQuery = true)
+    void upsert(@Param("userId") String userId, @Param("reviewCount") long reviewCount,
+                @Param("ratedCount") long ratedCount, @Param("ratingSum") BigDecimal ratingSum);
+}
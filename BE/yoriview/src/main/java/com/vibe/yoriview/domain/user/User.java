@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "user")
+@Table(name = "user", indexes = {
+        @Index(name = "idx_user_created", columnList = "created_at, user_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,13 +1,12 @@
 package com.vibe.yoriview.domain.user;
 
 import com.vibe.yoriview.domain.user.dto.*;
+import com.vibe.yoriview.global.pagination.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -23,8 +22,11 @@ public class UserController {
 
     // 전체 유저 조회 (테스트용)
     @GetMapping
-    public List<UserResponseDto> getAllUsers() {
-        return userService.findAll();
+    public CursorPage<UserResponseDto> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return userService.findAll(cursor, size);
     }
 
     @PostMapping("/login")
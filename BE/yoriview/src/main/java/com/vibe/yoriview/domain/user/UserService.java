@@ -4,16 +4,20 @@ import com.vibe.yoriview.domain.user.dto.*;
 import com.vibe.yoriview.global.config.JwtTokenProvider;
 import com.vibe.yoriview.global.exception.EmailAlreadyExistsException;
 import com.vibe.yoriview.global.exception.InvalidCredentialsException;
+import com.vibe.yoriview.global.pagination.Cursor;
+import com.vibe.yoriview.global.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final Cursor USER_CURSOR = new Cursor("createdAt", "userId");
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
@@ -38,10 +42,10 @@ public class UserService {
         return UserResponseDto.from(user);
     }
 
-    public List<UserResponseDto> findAll() {
-        return userRepository.findAll().stream()
-                .map(UserResponseDto::from)
-                .toList();
+    public CursorPage<UserResponseDto> findAll(String cursor, Integer size) {
+        Window<User> window = userRepository.findAllBy(
+                USER_CURSOR.decode(cursor), USER_CURSOR.sort(Sort.Direction.DESC), Cursor.limit(size));
+        return CursorPage.of(window, USER_CURSOR, UserResponseDto::from);
     }
 
     public LoginResponseDto login(LoginRequestDto dto) {
@@ -0,0 +1,48 @@
+package com.vibe.yoriview.domain.visit;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 음식점 방문 횟수 카운터.
+ * visit_log 는 방문 이력을 그대로 쌓고, 방문 수 / 자주 방문한 음식점 조회는 이 테이블의 한 행 또는 인덱스 상위 N 건만 읽습니다.
+ */
+@Entity
+@Table(name = "user_restaurant_visit", indexes = {
+        @Index(name = "idx_user_visit_count", columnList = "user_id, visit_count")
+})
+@IdClass(UserRestaurantVisit.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserRestaurantVisit {
+
+    @Id
+    @Column(name = "user_id", length = 36)
+    private String userId;
+
+    @Id
+    @Column(name = "restaurant_id", length = 36)
+    private String restaurantId;
+
+    @Column(name = "visit_count", nullable = false)
+    private long visitCount;
+
+    @Column(name = "last_visited_at")
+    private LocalDateTime lastVisitedAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String userId;
+        private String restaurantId;
+    }
+}
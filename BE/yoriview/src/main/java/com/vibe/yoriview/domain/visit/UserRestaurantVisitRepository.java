@@ -0,0 +1,59 @@
+package com.vibe.yoriview.domain.visit;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserRestaurantVisitRepository extends JpaRepository<UserRestaurantVisit, UserRestaurantVisit.Key> {
+
+    Optional<UserRestaurantVisit> findByUserIdAndRestaurantId(String userId, String restaurantId);
+
+    List<UserRestaurantVisit> findByUserIdOrderByVisitCountDesc(String userId, Limit limit);
+
+    // (user_id, restaurant_id) 가 기본 키라서 같은 음식점 방문이 동시에 기록되어도 행 잠금 안에서 1씩 더해짐
+    @Modifying
+    @Query(value = """
+            insert into user_restaurant_visit (user_id, restaurant_id, visit_count, last_visited_at)
+            values (:userId, :restaurantId, 1, :visitedAt)
+            on duplicate key update visit_count = visit_count + 1,
+                                    last_visited_at = greatest(coalesce(last_visited_at, :visitedAt), :visitedAt)
+            """, nativeQuery = true)
+    void increment(@Param("userId") String userId, @Param("restaurantId") String restaurantId,
+                   @Param("visitedAt") LocalDateTime visitedAt);
+
+    @Modifying
+    @Query("delete from UserRestaurantVisit v where v.userId = :userId")
+    void deleteAllByUserId(@Param("userId") String userId);
+
+    // visit_log 이력에서 카운터를 다시 채움
+    @Modifying
+    @Query(value = """
+            insert into user_restaurant_visit (user_id, restaurant_id, visit_count, last_visited_at)
+            select * from (
+                select user_id, restaurant_id, count(*) as cnt, max(visited_at) as last_visit
+                from visit_log
+                where user_id = :userId
+                group by restaurant_id
+            ) as v
+            on duplicate key update visit_count = v.cnt, last_visited_at = v.last_visit
+            """, nativeQuery = true)
+    int rebuildFromVisitLog(@Param("userId") String userId);
+
+    @Modifying
+    @Query(value = """
+            insert into user_restaurant_visit (user_id, restaurant_id, visit_count, last_visited_at)
+            select * from (
+                select user_id, restaurant_id, count(*) as cnt, max(visited_at) as last_visit
+                from visit_log
+                group by user_id, restaurant_id
+            ) as v
+            on duplicate key update visit_count = v.cnt, last_visited_at = v.last_visit
+            """, nativeQuery = true)
+    int rebuildAllFromVisitLog();
+}
@@ -0,0 +1,43 @@
+package com.vibe.yoriview.domain.visit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * user_restaurant_visit 카운터 테이블이 비어 있으면 기존 visit_log 이력으로 한 번 채웁니다.
+ * 빈 초기화가 끝난 뒤 웹 서버가 요청을 받기 전에 INSERT ... SELECT ... GROUP BY 한 번으로 처리합니다.
+ * 요청을 받기 시작한 뒤에 채우면 그 사이 기록된 방문으로 테이블이 먼저 채워져 초기 생성이 영영 건너뛰어지므로,
+ * 실패하면 기동을 중단합니다. (visit.counter.backfill-on-startup=false 로 끌 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VisitCounterBackfill implements SmartInitializingSingleton {
+
+    private final UserRestaurantVisitRepository visitCounterRepository;
+    private final VisitLogRepository visitLogRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${visit.counter.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (backfillOnStartup) {
+            backfill();
+        }
+    }
+
+    void backfill() {
+        if (visitCounterRepository.count() > 0 || visitLogRepository.count() == 0) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        Integer rows = transactionTemplate.execute(status -> visitCounterRepository.rebuildAllFromVisitLog());
+        log.info("방문 카운터 초기 생성 완료: {}행, {}ms", rows, System.currentTimeMillis() - startedAt);
+    }
+}
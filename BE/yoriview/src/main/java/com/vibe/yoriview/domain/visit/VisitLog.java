@@ -8,7 +8,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "visit_log")
+@Table(name = "visit_log", indexes = {
+        // 사용자별 음식점 방문 수 집계 (GROUP BY restaurant_id) 용 인덱스
+        @Index(name = "idx_visit_user_restaurant", columnList = "user_id, restaurant_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -6,5 +6,4 @@ import java.util.List;
 
 public interface VisitLogRepository extends JpaRepository<VisitLog, String> {
     List<VisitLog> findByUserId(String userId);
-    long countByUserIdAndRestaurantId(String userId, String restaurantId);
 }
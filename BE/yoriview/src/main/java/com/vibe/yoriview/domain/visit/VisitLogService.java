@@ -2,7 +2,9 @@ package com.vibe.yoriview.domain.visit;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -10,13 +12,17 @@ import java.util.List;
 public class VisitLogService {
 
     private final VisitLogRepository visitLogRepository;
+    private final UserRestaurantVisitRepository visitCounterRepository;
 
+    @Transactional
     public void recordVisit(String userId, String restaurantId) {
         VisitLog visit = VisitLog.builder()
                 .userId(userId)
                 .restaurantId(restaurantId)
                 .build();
         visitLogRepository.save(visit);
+        visitCounterRepository.increment(userId, restaurantId,
+                visit.getVisitedAt() != null ? visit.getVisitedAt() : LocalDateTime.now());
     }
 
     public List<VisitLog> getMyVisits(String userId) {
@@ -24,6 +30,8 @@ public class VisitLogService {
     }
 
     public long countMyVisitsToRestaurant(String userId, String restaurantId) {
-        return visitLogRepository.countByUserIdAndRestaurantId(userId, restaurantId);
+        return visitCounterRepository.findByUserIdAndRestaurantId(userId, restaurantId)
+                .map(UserRestaurantVisit::getVisitCount)
+                .orElse(0L);
     }
 }
@@ -0,0 +1,35 @@
+package com.vibe.yoriview.global.config;
+
+import com.vibe.yoriview.domain.ocr.OcrWorkspace;
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * 일괄 OCR(/api/ocr/process/batch) 전용 DispatcherServlet.
+ * multipart 요청 크기 한도는 서블릿 단위로 적용되므로, 이미지 여러 장을 받는 일괄 OCR 경로만 별도 서블릿으로 등록해
+ * (일괄 처리 이미지 수 x 8MB) 까지 받고, 나머지 경로는 spring.servlet.multipart.max-request-size 의 작은 한도를 씁니다.
+ * 같은 애플리케이션 컨텍스트를 공유하므로 컨트롤러, 보안 필터, 예외 처리는 기본 서블릿과 같습니다.
+ */
+@Configuration
+public class OcrBatchServletConfig {
+
+    // 이미지 외 multipart 경계/헤더 여유분
+    private static final long MULTIPART_OVERHEAD_BYTES = 1024 * 1024;
+
+    @Bean
+    public ServletRegistrationBean<DispatcherServlet> ocrBatchDispatcherServlet(
+            WebApplicationContext context, @Value("${ocr.batch.max-items:50}") int batchMaxItems) {
+        ServletRegistrationBean<DispatcherServlet> registration =
+                new ServletRegistrationBean<>(new DispatcherServlet(context), "/api/ocr/process/batch");
+        registration.setName("ocrBatchDispatcherServlet");
+        long maxRequestBytes = batchMaxItems * OcrWorkspace.MAX_IMAGE_BYTES + MULTIPART_OVERHEAD_BYTES;
+        registration.setMultipartConfig(
+                new MultipartConfigElement("", OcrWorkspace.MAX_IMAGE_BYTES, maxRequestBytes, 0));
+        return registration;
+    }
+}
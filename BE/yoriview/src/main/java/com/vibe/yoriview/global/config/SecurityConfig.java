@@ -8,6 +8,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.config.web.PathPatternRequestMatcherBuilderFactoryBean;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -26,6 +27,13 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    // 일괄 OCR 전용 서블릿(OcrBatchServletConfig)이 함께 등록되어 있으므로,
+    // requestMatchers 의 경로를 서블릿 매핑과 관계없이 요청 경로 전체로 비교하도록 지정
+    @Bean
+    public PathPatternRequestMatcherBuilderFactoryBean requestMatcherBuilder() {
+        return new PathPatternRequestMatcherBuilderFactoryBean();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -35,6 +43,12 @@ public class SecurityConfig {
                 .httpBasic(httpBasic -> httpBasic.disable())
                 .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // OCR 운영 통계는 아래 /api/ocr/** 허용보다 먼저 매칭되도록 앞에 둠
+                        .requestMatchers(
+                                "/api/ocr/cache/stats",
+                                "/api/ocr/metrics",
+                                "/api/ocr/admission/stats")
+                        .authenticated()
                         .requestMatchers(
                                 "/",
                                 "/api/users/register",
@@ -42,6 +56,8 @@ public class SecurityConfig {
                                 "/api/review-styles",
                                 "/api/restaurants",
                                 "/api/receipts",
+                                // <img> 태그로 바로 불러오므로 토큰 없이 허용 (URL 이 이미지 내용 해시라 추측 불가)
+                                "/api/receipts/images/**",
                                 "/api/ocr/**",
                                 "/api/ocr/process",
                                 "/api/reviews/complete")
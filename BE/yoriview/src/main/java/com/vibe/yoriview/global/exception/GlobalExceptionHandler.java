@@ -1,10 +1,19 @@
 package com.vibe.yoriview.global.exception;
 
+import com.vibe.yoriview.domain.ocr.OcrBatchTooLargeException;
+import com.vibe.yoriview.domain.ocr.OcrProcessingException;
+import com.vibe.yoriview.domain.ocr.OcrRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -23,9 +32,54 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(401).body(e.getMessage());
     }
 
+    // 🔹 업로드 크기 초과 (multipart 파싱 중 한도를 넘는 순간 중단됨)
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleMaxUploadSize(MaxUploadSizeExceededException e) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "파일 크기 초과");
+        body.put("details", "8MB 이하의 파일만 업로드 가능합니다.");
+        return ResponseEntity.badRequest().body(body);
+    }
+
+    // 🔹 OCR 처리 한도 초과 (잠시 후 다시 시도)
+    @ExceptionHandler(OcrRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleOcrRejected(OcrRejectedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ocrErrorBody(e));
+    }
+
+    // 🔹 OCR 일괄 처리 이미지 수 초과
+    @ExceptionHandler(OcrBatchTooLargeException.class)
+    public ResponseEntity<Map<String, Object>> handleOcrBatchTooLarge(OcrBatchTooLargeException e) {
+        return ResponseEntity.badRequest().body(ocrErrorBody(e));
+    }
+
+    // 🔹 그 밖의 OCR 처리 실패
+    @ExceptionHandler(OcrProcessingException.class)
+    public ResponseEntity<Map<String, Object>> handleOcrProcessing(OcrProcessingException e) {
+        return ResponseEntity.internalServerError().body(ocrErrorBody(e));
+    }
+
+    // 🔹 잘못된 페이지 커서 (변조되었거나 다른 목록의 커서)
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidCursor(InvalidCursorException e) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "잘못된 요청");
+        body.put("details", e.getMessage());
+        return ResponseEntity.badRequest().body(body);
+    }
+
     // 🔹 이메일 중복
     @ExceptionHandler(EmailAlreadyExistsException.class)
     public ResponseEntity<String> handleEmailExists(EmailAlreadyExistsException e) {
         return ResponseEntity.status(409).body(e.getMessage());
     }
+
+    private Map<String, Object> ocrErrorBody(OcrProcessingException e) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", e.getError());
+        body.put("details", e.getDetails());
+        return body;
+    }
 }
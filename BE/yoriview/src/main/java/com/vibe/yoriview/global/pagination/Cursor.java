@@ -0,0 +1,82 @@
+package com.vibe.yoriview.global.pagination;
+
+import com.vibe.yoriview.global.exception.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * (생성 시각, id) 키셋 커서.
+ * OFFSET 은 앞의 행을 모두 건너뛰어야 하므로 테이블이 커질수록 느려지지만,
+ * 키셋은 마지막으로 본 (시각, id) 다음부터 인덱스를 바로 읽으므로 몇 번째 페이지든 비용이 같습니다.
+ * 토큰은 "시각|id" 를 base64url 로 감싼 값이며 클라이언트는 내용을 해석하지 않고 그대로 돌려줍니다.
+ */
+public class Cursor {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private final String timeProperty;
+    private final String idProperty;
+
+    public Cursor(String timeProperty, String idProperty) {
+        this.timeProperty = timeProperty;
+        this.idProperty = idProperty;
+    }
+
+    /**
+     * 시각, id 순으로 정렬. id 를 함께 넣어야 같은 시각의 행도 순서가 고정됩니다.
+     */
+    public Sort sort(Sort.Direction direction) {
+        return Sort.by(direction, timeProperty, idProperty);
+    }
+
+    public static Limit limit(Integer size) {
+        if (size == null) {
+            return Limit.of(DEFAULT_SIZE);
+        }
+        return Limit.of(Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+
+    /**
+     * 토큰이 없으면 첫 페이지 위치를 반환합니다.
+     */
+    public ScrollPosition decode(String token) {
+        if (token == null || token.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("잘못된 커서입니다.");
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(timeProperty, LocalDateTime.parse(decoded.substring(0, separator)));
+            keys.put(idProperty, decoded.substring(separator + 1));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode(LocalDateTime time, String id) {
+        String raw = time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    String encode(KeysetScrollPosition position) {
+        Map<String, ?> keys = position.getKeys();
+        return encode((LocalDateTime) keys.get(timeProperty), String.valueOf(keys.get(idProperty)));
+    }
+}
@@ -0,0 +1,34 @@
+package com.vibe.yoriview.global.pagination;
+
+import lombok.Getter;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답. nextCursor 를 다음 요청의 cursor 파라미터로 넘기면 이어서 조회합니다.
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor; // 마지막 페이지면 null
+    private final boolean hasNext;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    public static <E, T> CursorPage<T> of(Window<E> window, Cursor cursor, Function<E, T> mapper) {
+        List<T> items = window.getContent().stream().map(mapper).toList();
+        if (!window.hasNext() || window.isEmpty()) {
+            return new CursorPage<>(items, null);
+        }
+        KeysetScrollPosition last = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        return new CursorPage<>(items, cursor.encode(last));
+    }
+}
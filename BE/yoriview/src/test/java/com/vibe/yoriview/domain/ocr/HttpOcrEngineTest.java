@@ -0,0 +1,197 @@
+package com.vibe.yoriview.domain.ocr;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 HTTP 서버로 CLOVA OCR / Gemini 응답을 흉내 내어 HttpOcrEngine 을 검증합니다.
+ */
+class HttpOcrEngineTest {
+
+    private static final String CLOVA_RESPONSE = """
+            {"images":[{"fields":[
+              {"inferText":"용용선생"},{"inferText":"영등포역점"},{"inferText":" "},
+              {"inferText":"3인세트"},{"inferText":"64,900"},{"inferText":"결제금액"},{"inferText":"76,900"}
+            ]}]}
+            """;
+
+    private static final String GEMINI_RESPONSE = """
+            {"candidates":[{"content":{"parts":[{"text":"```json\\n{\\"storeName\\": \\"용용선생 영등포역점\\", \\"address\\": null, \\"menuItems\\": [{\\"name\\": \\"3인세트\\", \\"price\\": 64900}], \\"totalPrice\\": 76900}\\n```"}]}}]}
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer server;
+    private final AtomicReference<String> receivedSecret = new AtomicReference<>();
+    private final AtomicReference<String> receivedPrompt = new AtomicReference<>();
+    private final AtomicInteger clovaStatus = new AtomicInteger(200);
+    private final AtomicInteger geminiStatus = new AtomicInteger(200);
+    private final AtomicInteger geminiCalls = new AtomicInteger();
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/clova", exchange -> {
+            receivedSecret.set(exchange.getRequestHeaders().getFirst("X-OCR-SECRET"));
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, clovaStatus.get(), CLOVA_RESPONSE);
+        });
+        server.createContext("/v1beta/models/", exchange -> {
+            geminiCalls.incrementAndGet();
+            receivedPrompt.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, geminiStatus.get(), GEMINI_RESPONSE);
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    @Test
+    void recognizesReceiptThroughClovaAndGemini() throws Exception {
+        Map<String, Object> parsed = newEngine().recognize(newWorkspace()).getParsed();
+
+        assertThat(receivedSecret.get()).isEqualTo("test-secret");
+        assertThat(receivedPrompt.get()).contains("용용선생\\n영등포역점");
+        assertThat(parsed.get("storeName")).isEqualTo("용용선생 영등포역점");
+        assertThat(parsed.get("totalPrice")).isEqualTo(76900);
+        assertThat((List<?>) parsed.get("menuItems")).hasSize(1);
+    }
+
+    @Test
+    void reportsGeminiFailureWithEmptyResult() throws Exception {
+        OcrEngineResult succeeded = newEngine().recognize(newWorkspace());
+        geminiStatus.set(500);
+        OcrEngineResult failed = newEngine().recognize(newWorkspace());
+
+        assertThat(succeeded.getFailedStage()).isNull();
+        assertThat(failed.getFailedStage()).isEqualTo("gemini");
+    }
+
+    @Test
+    void fallsBackToEmptyResultWhenGeminiFails() throws Exception {
+        geminiStatus.set(500);
+
+        OcrEngineResult result = newEngine().recognize(newWorkspace());
+
+        assertThat(result.getText()).startsWith("용용선생");
+        assertThat(result.getParsed().get("storeName")).isNull();
+        assertThat((List<?>) result.getParsed().get("menuItems")).isEmpty();
+    }
+
+    @Test
+    void opensCircuitWhenGeminiKeepsFailing() throws Exception {
+        geminiStatus.set(500);
+        OcrService service = newService(newEngine());
+        try {
+            // 최소 호출 수(3)만큼 Gemini 가 실패하면 서킷이 열림
+            for (int i = 0; i < 3; i++) {
+                Map<String, Object> result = service.process(receiptImage(i), "jpg", "client");
+                assertThat(result).doesNotContainKey("manualEntry");
+            }
+            Map<String, Object> degraded = service.process(receiptImage(3), "jpg", "client");
+
+            assertThat(degraded.get("manualEntry")).isEqualTo(true);
+            assertThat(geminiCalls.get()).isEqualTo(3);
+            assertThat(service.getAdmissionStats().get("circuitBreaker"))
+                    .asInstanceOf(InstanceOfAssertFactories.MAP)
+                    .containsEntry("state", OcrCircuitBreaker.State.OPEN);
+        } finally {
+            ReflectionTestUtils.invokeMethod(service, "shutdown");
+        }
+    }
+
+    @Test
+    void failsWhenClovaRejectsRequest() throws Exception {
+        clovaStatus.set(401);
+        HttpOcrEngine engine = newEngine();
+        OcrWorkspace workspace = newWorkspace();
+
+        assertThatThrownBy(() -> engine.recognize(workspace))
+                .isInstanceOf(OcrProcessingException.class)
+                .hasFieldOrPropertyWithValue("details", "CLOVA OCR 응답 오류: 401");
+    }
+
+    private HttpOcrEngine newEngine() throws IOException {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        HttpOcrEngine engine = new HttpOcrEngine();
+        ReflectionTestUtils.setField(engine, "clovaUrl", baseUrl + "/clova");
+        ReflectionTestUtils.setField(engine, "clovaSecretKey", "test-secret");
+        ReflectionTestUtils.setField(engine, "geminiBaseUrl", baseUrl);
+        ReflectionTestUtils.setField(engine, "geminiModel", "gemini-2.5-flash");
+        ReflectionTestUtils.setField(engine, "geminiApiKey", "test-key");
+        ReflectionTestUtils.setField(engine, "connectTimeoutSeconds", 5L);
+        ReflectionTestUtils.setField(engine, "clovaTimeoutSeconds", 5L);
+        ReflectionTestUtils.setField(engine, "geminiTimeoutSeconds", 5L);
+        engine.init();
+        return engine;
+    }
+
+    private OcrService newService(HttpOcrEngine engine) {
+        OcrResultCache cache = new OcrResultCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+
+        OcrService service = new OcrService(List.of(engine), cache, new OcrMetrics(), new OcrImageNormalizer(), new ReceiptTextParser());
+        ReflectionTestUtils.setField(service, "engineName", engine.getName());
+        ReflectionTestUtils.setField(service, "ocrBasePath", tempDir.resolve("service").toString());
+        ReflectionTestUtils.setField(service, "workerThreads", 1);
+        ReflectionTestUtils.setField(service, "queueCapacity", 4);
+        ReflectionTestUtils.setField(service, "jobTimeoutSeconds", 10L);
+        ReflectionTestUtils.setField(service, "maxPerClient", 1);
+        ReflectionTestUtils.setField(service, "parserFastPathEnabled", false);
+        ReflectionTestUtils.setField(service, "circuitEnabled", true);
+        ReflectionTestUtils.setField(service, "circuitWindowSeconds", 60L);
+        ReflectionTestUtils.setField(service, "circuitMinimumCalls", 3);
+        ReflectionTestUtils.setField(service, "circuitFailureRateThreshold", 0.5);
+        ReflectionTestUtils.setField(service, "circuitSlowCallMillis", 15000L);
+        ReflectionTestUtils.setField(service, "circuitSlowCallRateThreshold", 0.8);
+        ReflectionTestUtils.setField(service, "circuitOpenSeconds", 30L);
+        ReflectionTestUtils.setField(service, "circuitHalfOpenProbes", 1);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+
+    // 결과 캐시와 동시 요청 합류에 걸리지 않도록 요청마다 내용이 다른 이미지
+    private static ByteArrayInputStream receiptImage(int seed) {
+        return new ByteArrayInputStream(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) seed});
+    }
+
+    private OcrWorkspace newWorkspace() throws IOException {
+        OcrWorkspace workspace = OcrWorkspace.create(tempDir, "job-1");
+        workspace.saveImage(new ByteArrayInputStream(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}), "jpg");
+        return workspace;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.vibe.yoriview.domain.ocr;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가짜 시계로 서킷 브레이커의 상태 전이(closed -> open -> half-open -> closed/open)를 확인합니다.
+ */
+class OcrCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    // 60초 window, 최소 4건, 실패율 50%, 1초 넘으면 느린 호출(비율 80%), 30초 open, 시험 요청 1건
+    private final OcrCircuitBreaker breaker =
+            new OcrCircuitBreaker(true, 60_000, 4, 0.5, 1_000, 0.8, 30_000, 1, now::get);
+
+    @Test
+    void opensWhenFailureRateExceedsThreshold() {
+        call(true, 100);
+        call(false, 100);
+        call(true, 100);
+        assertThat(breaker.getState()).isEqualTo(OcrCircuitBreaker.State.CLOSED); // 최소 호출 수 미만
+
+        call(false, 100);
+        assertThat(breaker.getState()).isEqualTo(OcrCircuitBreaker.State.OPEN);
+        assertThat(breaker.isOpen()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void opensWhenMostCallsAreSlow() {
+        for (int i = 0; i < 4; i++) {
+            call(false, 5_000);
+        }
+        assertThat(breaker.getState()).isEqualTo(OcrCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void forgetsCallsOutsideWindow() {
+        call(true, 100);
+        call(true, 100);
+        call(true, 100);
+        now.addAndGet(61_000);
+
+        call(true, 100);
+        assertThat(breaker.getState()).isEqualTo(OcrCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenProbeClosesOnSuccess() {
+        tripOpen();
+        now.addAndGet(30_000);
+
+        assertThat(breaker.isOpen()).isFalse();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(OcrCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse(); // 시험 요청은 1건만
+
+        breaker.onSuccess(100);
+        assertThat(breaker.getState()).isEqualTo(OcrCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void halfOpenProbeReopensOnFailure() {
+        tripOpen();
+        now.addAndGet(30_000);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure(100);
+
+        assertThat(breaker.getState()).isEqualTo(OcrCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    private void tripOpen() {
+        for (int i = 0; i < 4; i++) {
+            call(true, 100);
+        }
+        assertThat(breaker.getState()).isEqualTo(OcrCircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean failed, long durationMillis) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        if (failed) {
+            breaker.onFailure(durationMillis);
+        } else {
+            breaker.onSuccess(durationMillis);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.vibe.yoriview.domain.ocr;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 휴대폰 카메라 크기(4000x3000)의 합성 영수증 사진으로 전처리 결과와 처리 시간을 확인합니다.
+ */
+class OcrImageNormalizerBenchmarkTest {
+
+    private static final int ROUNDS = 5;
+    // 느린 CI 에서도 넉넉한 상한 (개발 PC 기준 장당 수백 ms)
+    private static final long MAX_MILLIS_PER_IMAGE = 5000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shrinksCameraSizedReceipt() throws Exception {
+        OcrImageNormalizer normalizer = newNormalizer();
+        Path source = tempDir.resolve("receipt.jpg");
+        Files.write(source, receiptJpeg(4000, 3000));
+
+        long originalBytes = Files.size(source);
+        long normalizedBytes = 0;
+        long totalMillis = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            OcrImageNormalizer.Result result = normalizer.normalize(source, tempDir.resolve("out.jpg"));
+            assertThat(result.isApplied()).isTrue();
+            assertThat(result.getWidth()).isEqualTo(2048);
+            normalizedBytes = result.getNormalizedBytes();
+            totalMillis += result.getElapsedMillis();
+        }
+
+        assertThat(normalizedBytes).isLessThan(originalBytes / 2);
+        assertThat(totalMillis / ROUNDS).isLessThan(MAX_MILLIS_PER_IMAGE);
+    }
+
+    @Test
+    void rotatesAccordingToExifOrientation() throws Exception {
+        OcrImageNormalizer normalizer = newNormalizer();
+        Path source = tempDir.resolve("receipt.jpg");
+        // 가로로 저장되었지만 시계 방향 90도 회전(6) 으로 표시해야 하는 사진
+        Files.write(source, withOrientation(receiptJpeg(4000, 3000), 6));
+
+        OcrImageNormalizer.Result result = normalizer.normalize(source, tempDir.resolve("out.jpg"));
+
+        BufferedImage normalized = ImageIO.read(tempDir.resolve("out.jpg").toFile());
+        assertThat(result.isApplied()).isTrue();
+        assertThat(normalized.getWidth()).isEqualTo(1536);
+        assertThat(normalized.getHeight()).isEqualTo(2048);
+        // 원본 왼쪽 위의 검은 표시가 회전 후 오른쪽 위로 이동
+        assertThat(normalized.getRaster().getSample(normalized.getWidth() - 20, 20, 0)).isLessThan(64);
+        assertThat(normalized.getRaster().getSample(20, 20, 0)).isGreaterThan(192);
+    }
+
+    @Test
+    void keepsOriginalWhenImageCannotBeDecoded() throws Exception {
+        OcrImageNormalizer normalizer = newNormalizer();
+        byte[] broken = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0x00, 0x01};
+        OcrWorkspace workspace = OcrWorkspace.create(tempDir, "broken-job");
+        Path original = workspace.saveImage(new ByteArrayInputStream(broken), "jpg");
+
+        OcrImageNormalizer.Result result = normalizer.normalize(workspace);
+
+        // OCR 에는 원본 파일이 그대로 넘어가고 전처리 임시 파일은 남지 않음
+        assertThat(result.isApplied()).isFalse();
+        assertThat(workspace.getImageFile()).isEqualTo(original);
+        assertThat(Files.readAllBytes(workspace.getImageFile())).isEqualTo(broken);
+        try (Stream<Path> files = Files.list(workspace.getInputDir())) {
+            assertThat(files).containsExactly(original);
+        }
+    }
+
+    @Test
+    void replacesWorkspaceImageWithNormalizedJpeg() throws Exception {
+        OcrImageNormalizer normalizer = newNormalizer();
+        byte[] png = receiptPng(1500, 2600);
+        OcrWorkspace workspace = OcrWorkspace.create(tempDir, "png-job");
+        workspace.saveImage(new ByteArrayInputStream(png), "png");
+        String imageHash = workspace.getImageHash();
+
+        OcrImageNormalizer.Result result = normalizer.normalize(workspace);
+
+        // receipt.png 대신 줄어든 receipt.jpg 하나만 남고, 캐시 키(원본 해시)는 그대로
+        assertThat(result.isApplied()).isTrue();
+        assertThat(workspace.getImageFormat()).isEqualTo("jpg");
+        assertThat(Files.size(workspace.getImageFile())).isLessThan(png.length);
+        assertThat(ImageIO.read(workspace.getImageFile().toFile()).getHeight()).isEqualTo(2048);
+        assertThat(workspace.getImageHash()).isEqualTo(imageHash);
+        try (Stream<Path> files = Files.list(workspace.getInputDir())) {
+            assertThat(files).containsExactly(workspace.getImageFile());
+        }
+    }
+
+    private OcrImageNormalizer newNormalizer() {
+        OcrImageNormalizer normalizer = new OcrImageNormalizer();
+        ReflectionTestUtils.setField(normalizer, "enabled", true);
+        ReflectionTestUtils.setField(normalizer, "maxLongEdge", 2048);
+        ReflectionTestUtils.setField(normalizer, "jpegQuality", 0.85f);
+        ReflectionTestUtils.setField(normalizer, "grayscale", true);
+        normalizer.init();
+        return normalizer;
+    }
+
+    // 종이 질감(노이즈) 위에 글자를 찍은 컬러 사진. 왼쪽 위에 방향 확인용 검은 사각형
+    private static byte[] receiptJpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = random.nextInt(24);
+                image.setRGB(x, y, new Color(231 + noise, 226 + noise, 210 + noise / 2).getRGB());
+            }
+        }
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.BLACK);
+        graphics.fillRect(0, 0, 200, 200);
+        graphics.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 64));
+        for (int line = 0; line < 30; line++) {
+            graphics.drawString("ITEM " + line + "    x1    12,900", 400, 300 + line * 85);
+        }
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static byte[] receiptPng(int width, int height) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(receiptJpeg(width, height)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    // SOI 뒤에 Orientation 항목 하나짜리 EXIF(APP1) 세그먼트를 끼워 넣음
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        byte[] header = {'E', 'x', 'i', 'f', 0, 0};
+        int length = 2 + header.length + tiff.length;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.write(header, 0, header.length);
+        out.write(tiff, 0, tiff.length);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+}
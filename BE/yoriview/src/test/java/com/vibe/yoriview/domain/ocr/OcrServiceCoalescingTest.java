@@ -0,0 +1,151 @@
+package com.vibe.yoriview.domain.ocr;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 이미지가 동시에 들어왔을 때 OCR 을 한 번만 실행하고,
+ * 요청 하나가 시간 초과로 취소되어도 함께 기다리던 요청은 결과를 받는지 확인합니다.
+ */
+class OcrServiceCoalescingTest {
+
+    private static final byte[] IMAGE = "same receipt image".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path tempDir;
+
+    private final BlockingEngine engine = new BlockingEngine();
+    private OcrService service;
+
+    @BeforeEach
+    void setUp() {
+        OcrResultCache cache = new OcrResultCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+
+        service = new OcrService(List.of(engine), cache, new OcrMetrics(), new OcrImageNormalizer(), new ReceiptTextParser());
+        ReflectionTestUtils.setField(service, "engineName", BlockingEngine.NAME);
+        ReflectionTestUtils.setField(service, "ocrBasePath", tempDir.toString());
+        ReflectionTestUtils.setField(service, "workerThreads", 2);
+        ReflectionTestUtils.setField(service, "queueCapacity", 4);
+        ReflectionTestUtils.setField(service, "jobTimeoutSeconds", 1L);
+        ReflectionTestUtils.setField(service, "maxPerClient", 2);
+        ReflectionTestUtils.setField(service, "parserFastPathEnabled", false);
+        ReflectionTestUtils.setField(service, "circuitEnabled", false);
+        ReflectionTestUtils.invokeMethod(service, "init");
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.gate.countDown();
+        ReflectionTestUtils.invokeMethod(service, "shutdown");
+    }
+
+    @Test
+    void runsEngineOnceForSameImage() throws Exception {
+        OcrJob first = service.submit(new ByteArrayInputStream(IMAGE), "jpg", "client-a");
+        OcrJob second = service.submit(new ByteArrayInputStream(IMAGE), "jpg", "client-b");
+        engine.gate.countDown();
+
+        Map<String, Object> firstResult = first.getCompletion().get(5, TimeUnit.SECONDS);
+        Map<String, Object> secondResult = second.getCompletion().get(5, TimeUnit.SECONDS);
+
+        assertThat(engine.calls.get()).isEqualTo(1);
+        assertThat(firstResult.get("restaurantName")).isEqualTo("요리뷰 식당");
+        assertThat(secondResult).isEqualTo(firstResult);
+    }
+
+    @Test
+    void followerGetsResultWhenLeaderCallerTimesOut() throws Exception {
+        CompletableFuture<Map<String, Object>> leader = CompletableFuture.supplyAsync(
+                () -> service.process(new ByteArrayInputStream(IMAGE), "jpg", "client-a"));
+        assertThat(engine.started.await(5, TimeUnit.SECONDS)).isTrue();
+        OcrJob follower = service.submit(new ByteArrayInputStream(IMAGE), "jpg", "client-b");
+
+        // 동기 요청은 1초 뒤 시간 초과로 실패하지만 OCR 은 합류한 요청을 위해 계속 실행됨
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(OcrProcessingException.class);
+        assertThat(follower.getStatus().isFinished()).isFalse();
+
+        engine.gate.countDown();
+        Map<String, Object> result = follower.getCompletion().get(5, TimeUnit.SECONDS);
+
+        assertThat(result.get("restaurantName")).isEqualTo("요리뷰 식당");
+        assertThat(engine.calls.get()).isEqualTo(1);
+        assertThat(engine.interrupted.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void stopsEngineWhenEveryCallerCancels() throws Exception {
+        OcrJob first = service.submit(new ByteArrayInputStream(IMAGE), "jpg", "client-a");
+        OcrJob second = service.submit(new ByteArrayInputStream(IMAGE), "jpg", "client-b");
+        assertThat(engine.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        service.cancel(first, "취소");
+        assertThat(engine.interrupted.getCount()).isEqualTo(1);
+        service.cancel(second, "취소");
+
+        assertThat(engine.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(first.getStatus()).isEqualTo(OcrJobStatus.FAILED);
+        assertThat(second.getStatus()).isEqualTo(OcrJobStatus.FAILED);
+
+        // 중단된 실행에는 합류하지 않고 새로 실행
+        engine.gate.countDown();
+        OcrJob retry = service.submit(new ByteArrayInputStream(IMAGE), "jpg", "client-a");
+        assertThat(retry.getCompletion().get(5, TimeUnit.SECONDS).get("restaurantName")).isEqualTo("요리뷰 식당");
+        assertThat(engine.calls.get()).isEqualTo(2);
+    }
+
+    // gate 가 열릴 때까지 OCR 이 끝나지 않는 엔진
+    private static class BlockingEngine implements OcrEngine {
+
+        static final String NAME = "blocking";
+
+        final CountDownLatch gate = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public OcrEngineResult recognizeText(OcrWorkspace workspace) {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrupted.countDown();
+                throw new OcrProcessingException("OCR 처리 실패", "OCR 처리가 중단되었습니다");
+            }
+            return new OcrEngineResult(null, "요리뷰 식당", Map.of());
+        }
+
+        @Override
+        public OcrEngineResult parseText(OcrWorkspace workspace, String ocrText) {
+            return new OcrEngineResult(Map.of("storeName", ocrText), ocrText, Map.of());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.vibe.yoriview.domain.ocr;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OCR 워커 스레드가 엔진의 동시 처리 한도(Python 워커 수)보다 많이 설정되어도,
+ * 한꺼번에 들어온 작업이 워커를 기다리다 실패하지 않고 모두 처리되는지 확인합니다.
+ */
+class OcrServiceEngineConcurrencyTest {
+
+    private static final int ENGINE_WORKERS = 2;
+    private static final int WORKER_THREADS = 8;
+    private static final int JOBS = 8;
+
+    @TempDir
+    Path tempDir;
+
+    private final LimitedEngine engine = new LimitedEngine();
+    private OcrService service;
+
+    @BeforeEach
+    void setUp() {
+        OcrResultCache cache = new OcrResultCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+
+        service = new OcrService(List.of(engine), cache, new OcrMetrics(), new OcrImageNormalizer(), new ReceiptTextParser());
+        ReflectionTestUtils.setField(service, "engineName", LimitedEngine.NAME);
+        ReflectionTestUtils.setField(service, "ocrBasePath", tempDir.toString());
+        ReflectionTestUtils.setField(service, "workerThreads", WORKER_THREADS);
+        ReflectionTestUtils.setField(service, "queueCapacity", 16);
+        ReflectionTestUtils.setField(service, "maxInFlight", 16);
+        ReflectionTestUtils.setField(service, "jobTimeoutSeconds", 10L);
+        ReflectionTestUtils.setField(service, "maxPerClient", 2);
+        ReflectionTestUtils.setField(service, "parserFastPathEnabled", false);
+        ReflectionTestUtils.setField(service, "circuitEnabled", false);
+        ReflectionTestUtils.invokeMethod(service, "init");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(service, "shutdown");
+    }
+
+    @Test
+    void completesEveryJobWhenThreadsOutnumberEngineWorkers() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(JOBS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<OcrJob>> submitted = new ArrayList<>();
+        try {
+            for (int i = 0; i < JOBS; i++) {
+                byte[] image = ("receipt image " + i).getBytes(StandardCharsets.UTF_8);
+                String clientKey = "client-" + i;
+                submitted.add(CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return service.submit(new ByteArrayInputStream(image), "jpg", clientKey);
+                }, callers));
+            }
+            start.countDown();
+
+            for (CompletableFuture<OcrJob> job : submitted) {
+                Map<String, Object> result = job.get(10, TimeUnit.SECONDS).getCompletion().get(10, TimeUnit.SECONDS);
+                assertThat(result.get("restaurantName")).isEqualTo("요리뷰 식당");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(engine.calls.get()).isEqualTo(JOBS);
+        assertThat(engine.rejected.get()).isZero();
+        assertThat(engine.maxBusy.get()).isEqualTo(ENGINE_WORKERS);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 워커가 ENGINE_WORKERS 개뿐이고, 빈 워커가 없으면 바로 실패하는 엔진
+    private static class LimitedEngine implements OcrEngine {
+
+        static final String NAME = "limited";
+
+        final Semaphore workers = new Semaphore(ENGINE_WORKERS);
+        final AtomicInteger busy = new AtomicInteger();
+        final AtomicInteger maxBusy = new AtomicInteger();
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public int maxConcurrency() {
+            return ENGINE_WORKERS;
+        }
+
+        @Override
+        public OcrEngineResult recognize(OcrWorkspace workspace) {
+            calls.incrementAndGet();
+            if (!workers.tryAcquire()) {
+                rejected.incrementAndGet();
+                throw new OcrProcessingException("OCR 처리 실패", "사용 가능한 Python 워커가 없습니다");
+            }
+            try {
+                maxBusy.accumulateAndGet(busy.incrementAndGet(), Math::max);
+                Thread.sleep(100);
+                return new OcrEngineResult(Map.of("storeName", "요리뷰 식당"), "요리뷰 식당", Map.of());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OcrProcessingException("OCR 처리 실패", "OCR 처리가 중단되었습니다");
+            } finally {
+                busy.decrementAndGet();
+                workers.release();
+            }
+        }
+
+        @Override
+        public OcrEngineResult recognizeText(OcrWorkspace workspace) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public OcrEngineResult parseText(OcrWorkspace workspace, String ocrText) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
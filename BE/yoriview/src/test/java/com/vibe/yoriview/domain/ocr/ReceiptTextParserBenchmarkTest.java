@@ -0,0 +1,96 @@
+package com.vibe.yoriview.domain.ocr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 영수증 텍스트 코퍼스(ocr/receipt-corpus.json)로 규칙 기반 파서의 정확도와 처리 시간을 확인합니다.
+ * 신뢰도가 기준 이상인 결과는 AI 파싱 없이 그대로 쓰이므로 모든 항목이 정확해야 하고,
+ * 규칙으로 처리할 수 없는 영수증은 기준 미만이어야 합니다.
+ */
+class ReceiptTextParserBenchmarkTest {
+
+    private static final double MIN_CONFIDENCE = 0.8;
+    private static final int ROUNDS = 2_000;
+
+    private final ReceiptTextParser parser = new ReceiptTextParser();
+
+    @Test
+    void parsesCorpusAccuratelyWithinMilliseconds() throws IOException {
+        List<JsonNode> corpus = loadCorpus();
+        int fastPath = 0;
+        int correct = 0;
+
+        for (JsonNode receipt : corpus) {
+            ReceiptTextParser.Result result = parser.parse(text(receipt));
+            boolean confident = result.getConfidence() >= MIN_CONFIDENCE;
+            assertThat(confident)
+                    .as("%s (confidence=%.2f)", receipt.path("name").asText(), result.getConfidence())
+                    .isEqualTo(receipt.path("fastPath").asBoolean());
+            if (!confident) {
+                continue;
+            }
+            fastPath++;
+            JsonNode expected = receipt.path("expected");
+            assertThat(result.getStoreName()).as(receipt.path("name").asText()).isEqualTo(textOrNull(expected, "storeName"));
+            assertThat(result.getAddress()).as(receipt.path("name").asText()).isEqualTo(textOrNull(expected, "address"));
+            assertThat(result.getTotalPrice()).isEqualTo(expected.path("totalPrice").asInt());
+            assertThat(result.getMenuItems()).hasSize(expected.path("menuItems").size());
+            for (int i = 0; i < result.getMenuItems().size(); i++) {
+                Map<String, Object> item = result.getMenuItems().get(i);
+                JsonNode expectedItem = expected.path("menuItems").path(i);
+                assertThat(item.get("name")).isEqualTo(expectedItem.path("name").asText());
+                assertThat(item.get("price")).isEqualTo(expectedItem.path("price").asInt());
+            }
+            correct++;
+        }
+
+        List<String> texts = corpus.stream().map(ReceiptTextParserBenchmarkTest::text).toList();
+        long startedAt = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (String text : texts) {
+                Objects.requireNonNull(parser.parse(text));
+            }
+        }
+        double microsPerReceipt = (System.nanoTime() - startedAt) / 1_000.0 / (ROUNDS * texts.size());
+
+        System.out.printf("규칙 파서: 코퍼스 %d건 중 %d건 AI 생략 (정확 %d건), 평균 %.1fµs/건%n",
+                corpus.size(), fastPath, correct, microsPerReceipt);
+        assertThat(microsPerReceipt).isLessThan(1_000);
+    }
+
+    @Test
+    void emptyTextHasNoConfidence() {
+        assertThat(parser.parse("").getConfidence()).isZero();
+        assertThat(parser.parse(null).getMenuItems()).isEmpty();
+    }
+
+    private static List<JsonNode> loadCorpus() throws IOException {
+        try (InputStream in = ReceiptTextParserBenchmarkTest.class.getResourceAsStream("/ocr/receipt-corpus.json")) {
+            List<JsonNode> corpus = new ArrayList<>();
+            new ObjectMapper().readTree(in).forEach(corpus::add);
+            return corpus;
+        }
+    }
+
+    // CLOVA 응답처럼 필드 하나를 한 줄로
+    private static String text(JsonNode receipt) {
+        List<String> lines = new ArrayList<>();
+        receipt.path("lines").forEach(line -> lines.add(line.asText()));
+        return String.join("\n", lines);
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        return node.path(field).isNull() ? null : node.path(field).asText();
+    }
+}
@@ -0,0 +1,114 @@
+package com.vibe.yoriview.domain.receipt;
+
+import com.vibe.yoriview.domain.ocr.OcrImageNormalizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 영수증 이미지를 저장할 때 전처리로 줄어든 이미지가 저장되고, 해시가 저장된 내용과 일치하는지 확인합니다.
+ */
+class ReceiptImageStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void storesNormalizedImage() throws Exception {
+        ReceiptImageStore store = newStore(true);
+        byte[] photo = photoJpeg(4000, 3000);
+
+        String hash = store.storeBase64(Base64.getEncoder().encodeToString(photo));
+
+        Path stored = store.find(hash).orElseThrow();
+        assertThat(Files.size(stored)).isLessThan(photo.length / 2);
+        assertThat(ImageIO.read(stored.toFile()).getWidth()).isEqualTo(2048);
+        assertThat(hash).isEqualTo(sha256(Files.readAllBytes(stored)));
+        // 같은 원본을 다시 올리면 같은 파일을 가리킴
+        assertThat(store.store(new ByteArrayInputStream(photo))).isEqualTo(hash);
+        assertThat(leftoverTempFiles()).isZero();
+    }
+
+    @Test
+    void storesOriginalWhenImageCannotBeDecoded() throws Exception {
+        ReceiptImageStore store = newStore(true);
+        byte[] broken = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0x00, 0x01};
+
+        String hash = store.store(new ByteArrayInputStream(broken));
+
+        assertThat(hash).isEqualTo(sha256(broken));
+        assertThat(Files.readAllBytes(store.find(hash).orElseThrow())).isEqualTo(broken);
+        assertThat(leftoverTempFiles()).isZero();
+    }
+
+    @Test
+    void storesOriginalWhenNormalizationDisabled() throws Exception {
+        ReceiptImageStore store = newStore(false);
+        byte[] photo = photoJpeg(1200, 900);
+
+        String hash = store.store(new ByteArrayInputStream(photo));
+
+        assertThat(hash).isEqualTo(sha256(photo));
+        assertThat(Files.readAllBytes(store.find(hash).orElseThrow())).isEqualTo(photo);
+    }
+
+    private ReceiptImageStore newStore(boolean normalize) {
+        OcrImageNormalizer normalizer = new OcrImageNormalizer();
+        ReflectionTestUtils.setField(normalizer, "maxLongEdge", 2048);
+        ReflectionTestUtils.setField(normalizer, "jpegQuality", 0.85f);
+        ReflectionTestUtils.setField(normalizer, "grayscale", true);
+        ReflectionTestUtils.invokeMethod(normalizer, "init");
+
+        ReceiptImageStore store = new ReceiptImageStore(normalizer);
+        ReflectionTestUtils.setField(store, "imageDir", tempDir.toString());
+        ReflectionTestUtils.setField(store, "normalize", normalize);
+        ReflectionTestUtils.invokeMethod(store, "init");
+        return store;
+    }
+
+    private long leftoverTempFiles() throws IOException {
+        try (var files = Files.list(tempDir)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(".")).count();
+        }
+    }
+
+    // 종이 질감(노이즈)이 있는 컬러 사진
+    private static byte[] photoJpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(7);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = random.nextInt(24);
+                image.setRGB(x, y, new Color(231 + noise, 226 + noise, 210 + noise / 2).getRGB());
+            }
+        }
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.BLACK);
+        graphics.fillRect(width / 10, height / 10, width / 5, height / 20);
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+}
@@ -0,0 +1,46 @@
+package com.vibe.yoriview.domain.restaurant;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OCR 결과마다 조금씩 다른 표기가 같은 음식점 키로 모이는지 확인합니다.
+ */
+class RestaurantKeyTest {
+
+    @Test
+    void ignoresWhitespacePunctuationAndCase() {
+        String key = RestaurantKey.of("맛있는 김치찌개 (강남점)", "서울시 강남구 테헤란로 123");
+
+        assertThat(RestaurantKey.of("맛있는김치찌개 강남점", "서울시 강남구 테헤란로123")).isEqualTo(key);
+        assertThat(RestaurantKey.of("  맛있는-김치찌개.강남점 ", "서울시, 강남구 테헤란로 123")).isEqualTo(key);
+        assertThat(RestaurantKey.of("Pasta House", "Seoul")).isEqualTo(RestaurantKey.of("PASTA-HOUSE", "seoul"));
+    }
+
+    @Test
+    void unifiesUnicodeCompatibilityForms() {
+        // 전각 영숫자, 한글 자모 조합형(NFD) 표기
+        assertThat(RestaurantKey.normalize("ＡＢＣ１２３")).isEqualTo("abc123");
+        assertThat(RestaurantKey.normalize("\u1100\u1161\u11A8")).isEqualTo("\uAC01"); // ㄱ+ㅏ+ㄱ -> 각
+    }
+
+    @Test
+    void separatesNameAndAddress() {
+        assertThat(RestaurantKey.of("ab", "c")).isNotEqualTo(RestaurantKey.of("a", "bc"));
+        assertThat(RestaurantKey.of("김밥천국", "역삼점")).isNotEqualTo(RestaurantKey.of("김밥천국", "선릉점"));
+        assertThat(RestaurantKey.of("김밥천국", null)).hasSize(64);
+    }
+
+    @Test
+    void rejectsNameWithoutLettersOrDigits() {
+        // 이름이 없는 음식점끼리 주소만 같다고 하나로 합쳐지면 안 됨
+        for (String name : new String[]{null, "", "   ", "(!!) - ·", "\u3000"}) {
+            assertThat(RestaurantKey.hasName(name)).as("name=%s", name).isFalse();
+            assertThatThrownBy(() -> RestaurantKey.of(name, "서울시 강남구 테헤란로 123"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(RestaurantKey.hasName("7번가 피자")).isTrue();
+    }
+}
@@ -0,0 +1,152 @@
+package com.vibe.yoriview.domain.review;
+
+import com.vibe.yoriview.domain.receipt.ReceiptItemRepository;
+import com.vibe.yoriview.domain.receipt.ReceiptRepository;
+import com.vibe.yoriview.domain.restaurant.RestaurantRepository;
+import com.vibe.yoriview.domain.review.dto.CompleteReviewRequestDto;
+import com.vibe.yoriview.domain.review.dto.CompleteReviewResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 통합 리뷰 저장 한 건이 MySQL 서버에 보내는 문장 수를 영수증 항목 수별로 측정합니다.
+ * 서버 쪽 카운터(SHOW GLOBAL STATUS 의 Questions, Com_insert)로 세므로, rewriteBatchedStatements 로
+ * 항목 INSERT 가 multi-row INSERT 한 문장으로 합쳐졌는지까지 확인됩니다. (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "jwt.secret=benchmark-secret-benchmark-secret-benchmark-secret",
+        "spring.jpa.show-sql=false",
+        "ocr.python.pool-size=0",
+        "receipt.image.migrate-on-startup=false",
+        "restaurant.dedup.backfill-on-startup=false",
+        "visit.counter.backfill-on-startup=false",
+        "statistics.rebuild.cron=-"
+})
+class CompleteReviewWriteBenchmarkTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    private static final String USER_ID = "batch-benchmark-user";
+    // 영수증 1 + 영수증 항목(multi-row) 1 + 리뷰 1
+    private static final long INSERTS_PER_REVIEW = 3;
+    // 트랜잭션 시작/종료 3, 음식점 조회 1, 배치별 read-only 확인 3, INSERT 3, 통계 갱신 1, 상태 조회 1
+    private static final long MAX_STATEMENTS_PER_REVIEW = 12;
+
+    @Autowired
+    private CompleteReviewService completeReviewService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReceiptRepository receiptRepository;
+
+    @Autowired
+    private ReceiptItemRepository receiptItemRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String restaurantName = "배치 측정 식당 " + UUID.randomUUID();
+    private final List<CompleteReviewResponseDto> saved = new ArrayList<>();
+
+    @Test
+    void statementsPerReviewDoNotGrowWithItems() {
+        // 첫 저장은 음식점 생성과 캐시 적재가 포함되므로 측정에서 제외
+        save(1);
+
+        RoundTrips oneItem = roundTripsFor(1);
+        RoundTrips tenItems = roundTripsFor(10);
+        RoundTrips thirtyItems = roundTripsFor(30);
+
+        assertThat(tenItems).isEqualTo(oneItem);
+        assertThat(thirtyItems).isEqualTo(oneItem);
+        assertThat(oneItem.inserts()).isEqualTo(INSERTS_PER_REVIEW);
+        assertThat(oneItem.statements()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_REVIEW);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (CompleteReviewResponseDto response : saved) {
+            reviewRepository.deleteById(response.getReviewId());
+            receiptItemRepository.deleteAll(receiptItemRepository.findByReceiptId(response.getReceiptId()));
+            receiptRepository.deleteById(response.getReceiptId());
+        }
+        saved.stream().map(CompleteReviewResponseDto::getRestaurantId).distinct()
+                .forEach(restaurantRepository::deleteById);
+    }
+
+    // 서버가 받은 문장 수(Questions)와 INSERT 문장 수(Com_insert)의 증가분. 뒤쪽 상태 조회 문장 1개가 포함됨
+    private RoundTrips roundTripsFor(int itemCount) {
+        Map<String, Long> before = serverCounters();
+        save(itemCount);
+        Map<String, Long> after = serverCounters();
+        return new RoundTrips(after.get("Questions") - before.get("Questions"),
+                after.get("Com_insert") - before.get("Com_insert"));
+    }
+
+    private Map<String, Long> serverCounters() {
+        Map<String, Long> counters = new HashMap<>();
+        jdbcTemplate.query("show global status where variable_name in ('Questions', 'Com_insert')",
+                row -> {
+                    counters.put(row.getString(1), row.getLong(2));
+                });
+        return counters;
+    }
+
+    private void save(int itemCount) {
+        List<CompleteReviewRequestDto.OCRMenuItem> items = IntStream.rangeClosed(1, itemCount)
+                .mapToObj(i -> CompleteReviewRequestDto.OCRMenuItem.builder()
+                        .name("메뉴 " + i)
+                        .price(1000 * i)
+                        .quantity(1)
+                        .build())
+                .toList();
+
+        CompleteReviewRequestDto dto = CompleteReviewRequestDto.builder()
+                .ocrRestaurantName(restaurantName)
+                .ocrAddress("서울시 강남구 테헤란로 123")
+                .receiptDate(LocalDate.now())
+                .ocrMenuItems(items)
+                .restaurantName(restaurantName)
+                .restaurantCategory("한식")
+                .restaurantAddress("서울시 강남구 테헤란로 123")
+                .locationId("L01")
+                .styleId("casual")
+                .reviewContent("배치 측정용 리뷰")
+                .rating(new BigDecimal("4.5"))
+                .build();
+
+        CompleteReviewResponseDto response = completeReviewService.saveCompleteReview(dto, USER_ID);
+        assertThat(response.isSuccess()).isTrue();
+        saved.add(response);
+    }
+
+    private record RoundTrips(long statements, long inserts) {
+    }
+}
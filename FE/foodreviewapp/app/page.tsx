@@ -262,16 +262,10 @@ export default function HomePage() {
   const formattedReviews = useMemo(() => {
     console.log("formattedReviews 계산 중:", myReviews);
     const formatted = myReviews.map((review) => {
-      // Base64 이미지 처리
+      // 영수증 이미지는 백엔드 이미지 저장소 경로(/api/receipts/images/{hash})로 내려옴
       let imageUrl = "/placeholder.svg?height=200&width=300";
-      if (review.originalImg) {
-        // 이미 data URL 형식인지 확인
-        if (review.originalImg.startsWith("data:image/")) {
-          imageUrl = review.originalImg;
-        } else {
-          // Base64 데이터만 있는 경우 prefix 추가
-          imageUrl = `data:image/jpeg;base64,${review.originalImg}`;
-        }
+      if (review.imageUrl) {
+        imageUrl = `${process.env.NEXT_PUBLIC_LOCAL_BACK_URL ?? ""}${review.imageUrl}`;
       }
 
       // 즐겨찾기 상태 확인
@@ -62,6 +62,9 @@ export default function WritePage() {
     try {
       const result = await apiProcessOCR(file);
       setOcrResult(result);
+      if (result.manualEntry) {
+        alert(t("ocrManualEntry"));
+      }
       
       // OCR 처리 완료 후 자동으로 다음 단계로 이동
       setTimeout(() => {
@@ -79,6 +82,8 @@ export default function WritePage() {
       let errorMessage = t("ocrError");
       if (error.response?.status === 403) {
         errorMessage = t("serverAccessDenied");
+      } else if (error.response?.status === 429) {
+        errorMessage = t("serverBusy");
       } else if (error.response?.status === 500) {
         errorMessage = t("serverInternalError");
       }
@@ -284,13 +289,15 @@ export default function WritePage() {
         quantity: 1,
       }));
 
-      const base64Data = uploadedImage ? uploadedImage.split(",")[1] : "";
+      // 미리보기용 data URL 을 파일(Blob)로 바꿔 multipart 로 업로드
+      const imageBlob = uploadedImage
+        ? await (await fetch(uploadedImage)).blob()
+        : undefined;
 
       const reviewData: CompleteReviewRequest = {
         // OCR 정보
         ocrRestaurantName: ocrResult.restaurantName,
         ocrAddress: ocrResult.address || "",
-        originalImg: base64Data,
         receiptDate: new Date().toISOString().split("T")[0],
         ocrMenuItems: ocrMenuItems,
 
@@ -307,7 +314,7 @@ export default function WritePage() {
       };
 
       // API 호출
-      const response = await saveCompleteReview(reviewData);
+      const response = await saveCompleteReview(reviewData, imageBlob);
 
       if (response.success) {
         alert(t("reviewSaveSuccess"));
@@ -103,6 +103,8 @@ const translations = {
     ocrError: "영수증 인식 중 오류가 발생했습니다.",
     serverAccessDenied: "서버 접근이 거부되었습니다. CORS 설정을 확인해주세요.",
     serverInternalError: "서버 내부 오류가 발생했습니다.",
+    serverBusy: "영수증 인식 요청이 많습니다. 잠시 후",
+    ocrManualEntry: "영수증 인식 서비스가 일시적으로 원활하지 않습니다. 가게 정보와 메뉴를 직접 입력해주세요.",
     tryAgain: " 다시 시도해주세요.",
     confirmDelete: "정말 삭제하시겠습니까?",
     all: "전체",
@@ -211,6 +213,8 @@ const translations = {
     ocrError: "Error occurred while recognizing receipt.",
     serverAccessDenied: "Server access denied. Please check CORS settings.",
     serverInternalError: "Internal server error occurred.",
+    serverBusy: "Too many receipt requests right now.",
+    ocrManualEntry: "Receipt recognition is temporarily unavailable. Please enter the store and menu details manually.",
     tryAgain: " Please try again.",
     confirmDelete: "Are you sure you want to delete this?",
     all: "All",
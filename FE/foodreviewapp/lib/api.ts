@@ -46,6 +46,30 @@ axiosInstance.interceptors.response.use(
   }
 );
 
+// 커서 페이지 응답 (목록 API 공통)
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
+// 커서를 따라가며 모든 페이지를 모음 (요청 하나당 응답 크기는 서버가 제한)
+const fetchAllPages = async <T>(
+  url: string,
+  params: Record<string, string> = {}
+): Promise<T[]> => {
+  const items: T[] = [];
+  let cursor: string | null = null;
+  do {
+    const response: AxiosResponse<CursorPage<T>> = await axiosInstance.get(url, {
+      params: { ...params, size: 100, ...(cursor ? { cursor } : {}) },
+    });
+    items.push(...response.data.items);
+    cursor = response.data.hasNext ? response.data.nextCursor : null;
+  } while (cursor);
+  return items;
+};
+
 // 회원가입 API 타입 정의
 export interface SignupData {
   email: string;
@@ -91,6 +115,8 @@ export interface OCRResult {
   items: Array<{ name: string; price: number }>;
   total: number;
   address?: string;
+  manualEntry?: boolean; // 외부 OCR 장애로 인식을 건너뛴 경우 (직접 입력 필요)
+  message?: string;
 }
 
 export const processOCR = async (file: File): Promise<OCRResult> => {
@@ -315,7 +341,7 @@ export interface CompleteReviewRequest {
   // OCR 정보
   ocrRestaurantName: string;
   ocrAddress: string;
-  originalImg: string;
+  originalImg?: string; // base64 (image 파일을 함께 보내면 생략)
   receiptDate: string;
   ocrMenuItems: Array<{
     name: string;
@@ -344,10 +370,28 @@ export interface CompleteReviewResponse {
 }
 
 // 통합 리뷰 저장 API
+// image 가 있으면 multipart 로 보내 base64 변환 없이 이미지 파일을 그대로 업로드
 export const saveCompleteReview = async (
-  data: CompleteReviewRequest
+  data: CompleteReviewRequest,
+  image?: Blob
 ): Promise<CompleteReviewResponse> => {
-  const response = await axiosInstance.post("/api/reviews/complete", data);
+  if (!image) {
+    const response = await axiosInstance.post("/api/reviews/complete", data);
+    return response.data;
+  }
+
+  const formData = new FormData();
+  formData.append(
+    "review",
+    new Blob([JSON.stringify(data)], { type: "application/json" })
+  );
+  formData.append("image", image, "receipt.jpg");
+
+  const response = await axiosInstance.post("/api/reviews/complete", formData, {
+    headers: {
+      "Content-Type": "multipart/form-data",
+    },
+  });
   return response.data;
 };
 
@@ -366,7 +410,7 @@ export interface MyReviewResponse {
   restaurantName: string;
   restaurantAddress: string;
   restaurantCategory: string;
-  originalImg: string; // 영수증 이미지 Base64
+  imageUrl: string | null; // 영수증 이미지 경로 (/api/receipts/images/{hash})
   receiptDate: string;
 }
 
@@ -374,18 +418,14 @@ export interface MyReviewResponse {
 export const getMyDetailedReviews = async (
   order: string = "latest"
 ): Promise<MyReviewResponse[]> => {
-  const response = await axiosInstance.get(
-    `/api/reviews/me/detailed?order=${order}`
-  );
-  return response.data;
+  return fetchAllPages<MyReviewResponse>("/api/reviews/me/detailed", { order });
 };
 
 // 사용자 리뷰 목록 조회 API (기존)
 export const getMyReviews = async (
   order: string = "latest"
 ): Promise<MyReviewResponse[]> => {
-  const response = await axiosInstance.get(`/api/reviews/me?order=${order}`);
-  return response.data;
+  return fetchAllPages<MyReviewResponse>("/api/reviews/me", { order });
 };
 
 // 리뷰 삭제 API
@@ -476,8 +516,7 @@ export interface RestaurantResponse {
 // 모든 레스토랑 조회
 export const getAllRestaurants = async (): Promise<RestaurantResponse[]> => {
   try {
-    const response = await axiosInstance.get("/api/restaurants");
-    return Array.isArray(response.data) ? response.data : [];
+    return await fetchAllPages<RestaurantResponse>("/api/restaurants");
   } catch (error) {
     console.error("모든 레스토랑 API 호출 실패:", error);
     return [];